@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Runs the JMH suites with the GC profiler and stores JSON results per commit, e.g.
+#   ./run.sh                 all benchmarks
+#   ./run.sh Mapper -f 2     only benchmarks matching "Mapper", extra JMH options passed through
+set -euo pipefail
+
+cd "$(dirname "$0")"
+mvn -B -q -f ../pom.xml install -DskipTests
+mvn -B -q package
+
+mkdir -p results
+revision="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if ! git diff --quiet HEAD -- .. 2>/dev/null; then
+    revision="${revision}-dirty"
+fi
+output="results/${revision}.json"
+
+java -jar target/benchmarks.jar -prof gc -rf json -rff "$output" "$@"
+echo "Results written to benchmarks/$output"
@@ -0,0 +1,123 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.chat.Chat;
+import com.teamcollabhub.backend.chat.ChatMessage;
+import com.teamcollabhub.backend.chat.ChatType;
+import com.teamcollabhub.backend.column.BoardColumn;
+import com.teamcollabhub.backend.event.Event;
+import com.teamcollabhub.backend.task.Task;
+import com.teamcollabhub.backend.task.TaskPriority;
+import com.teamcollabhub.backend.task.TaskStatus;
+import com.teamcollabhub.backend.user.User;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Detached entity graphs shaped like the ones the API maps on every request.
+ */
+final class Fixtures {
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private Fixtures() {
+    }
+
+    static User user(int index) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("Jane Doe " + index);
+        user.setEmail("jane.doe" + index + "@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setRole("user");
+        user.setDepartment("Engineering");
+        user.setActiveTasks(index % 7);
+        user.setCompletedTasks(index % 13);
+        user.setJoinedDate(Instant.parse("2024-01-15T09:00:00Z"));
+        return user;
+    }
+
+    static List<Task> tasks(int count) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Product launch");
+        List<BoardColumn> columns = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            BoardColumn column = new BoardColumn();
+            column.setId(UUID.randomUUID());
+            column.setTitle("Column " + i);
+            column.setEvent(event);
+            columns.add(column);
+        }
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(user(i));
+        }
+        Instant now = Instant.parse("2025-03-01T12:00:00Z");
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Prepare launch checklist item " + i);
+            task.setDescription("Coordinate with the design and marketing teams before the review on Friday.");
+            task.setEvent(event);
+            task.setColumn(columns.get(i % columns.size()));
+            task.setPriority(PRIORITIES[i % PRIORITIES.length]);
+            task.setStatus(STATUSES[i % STATUSES.length]);
+            task.setAssignedTo(users.get(i % users.size()));
+            task.setCreatedBy(users.get((i + 7) % users.size()));
+            task.setCreatedAt(now.minusSeconds(i * 60L));
+            task.setUpdatedAt(now);
+            task.setDueDate(now.plusSeconds(86_400L * (i % 30)));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static ChatMessage message() {
+        Chat chat = new Chat();
+        chat.setId(UUID.randomUUID());
+        chat.setName("Launch team");
+        chat.setType(ChatType.GROUP);
+        return message(chat, user(1), Instant.parse("2025-03-01T12:00:00Z"));
+    }
+
+    static List<ChatMessage> messages(int count) {
+        Chat chat = new Chat();
+        chat.setId(UUID.randomUUID());
+        chat.setName("Launch team");
+        chat.setType(ChatType.GROUP);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            users.add(user(i));
+        }
+        Instant now = Instant.parse("2025-03-01T12:00:00Z");
+        List<ChatMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(message(chat, users.get(i % users.size()), now.minusSeconds(i * 30L)));
+        }
+        return messages;
+    }
+
+    private static ChatMessage message(Chat chat, User author, Instant timestamp) {
+        ChatMessage message = new ChatMessage();
+        message.setId(UUID.randomUUID());
+        message.setChat(chat);
+        message.setUser(author);
+        message.setMessage("@Jane Doe 2 can you review the launch checklist before standup?");
+        message.setTimestamp(timestamp);
+        message.setReplyCount(3);
+        message.setLastReplyAt(timestamp.plusSeconds(300));
+        Map<String, Long> reactions = new HashMap<>();
+        reactions.put("👍", 4L);
+        reactions.put("🎉", 2L);
+        reactions.put("👀", 0L);
+        message.setReactionCounts(reactions);
+        return message;
+    }
+}
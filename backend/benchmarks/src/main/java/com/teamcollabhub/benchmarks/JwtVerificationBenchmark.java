@@ -0,0 +1,73 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT verification cost. {@code legacy} reproduces the old filter, which built a new
+ * parser and verified the token twice; {@code parseOnce} uses the shared parser without the
+ * verified-token cache and {@code cached} is the steady-state path for a token seen before.
+ * {@code generate} is the signing cost paid on login and refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET = "ZGVmYXVsdHNlY3JldGZvclRvb2xraXQxMjM0NTY3ODkwMTIzNDU2Nzg5MDEyMw==";
+
+    private Key key;
+    private JwtTokenProvider provider;
+    private String subject;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        provider = new JwtTokenProvider(SECRET, 3_600_000, 10_000, 300_000);
+        subject = UUID.randomUUID().toString();
+        token = provider.generateToken(subject, "jane.doe@example.com");
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generateToken(subject, "jane.doe@example.com");
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return provider.parseClaims(token).getSubject();
+    }
+
+    @Benchmark
+    public String cached() {
+        return provider.verify(token).map(Claims::getSubject).orElseThrow();
+    }
+}
@@ -0,0 +1,66 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.chat.ChatMapper;
+import com.teamcollabhub.backend.chat.ChatMessage;
+import com.teamcollabhub.backend.chat.ChatMessageResponse;
+import com.teamcollabhub.backend.task.Task;
+import com.teamcollabhub.backend.task.TaskMapper;
+import com.teamcollabhub.backend.task.TaskResponse;
+import com.teamcollabhub.backend.user.User;
+import com.teamcollabhub.backend.user.UserMapper;
+import com.teamcollabhub.backend.user.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Task task;
+    private ChatMessage message;
+    private User user;
+    private User userWithoutAvatar;
+
+    @Setup
+    public void setUp() {
+        task = Fixtures.tasks(1).get(0);
+        message = Fixtures.message();
+        user = Fixtures.user(1);
+        user.setAvatar("https://cdn.example.com/avatars/jane.png");
+        userWithoutAvatar = Fixtures.user(2);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return TaskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public ChatMessageResponse chatMessageToResponse() {
+        return ChatMapper.toResponse(message);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return UserMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public UserResponse userToResponseDefaultAvatar() {
+        return UserMapper.toResponse(userWithoutAvatar);
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.ratelimit.RateLimitProperties;
+import com.teamcollabhub.backend.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the rate limit filter: route resolution plus one bucket acquisition.
+ * Limits are set high enough that requests are never rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private RateLimiter rateLimiter;
+    private RateLimiter.Rule rule;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(new RateLimitProperties(true, 100_000, Duration.ofMinutes(10),
+                new RateLimitProperties.Limit(1_000_000_000L, 1e9),
+                List.of(new RateLimitProperties.Route("POST", "/api/auth/{action:login|register|refresh}", 10, 0.2),
+                        new RateLimitProperties.Route("GET", "/api/tasks/**", 1_000_000_000L, 1e9),
+                        new RateLimitProperties.Route("GET", "/api/chats/*/messages", 1_000_000_000L, 1e9))));
+        rule = rateLimiter.resolve("GET", "/api/chats/" + UUID.randomUUID() + "/messages");
+        userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public RateLimiter.Rule resolve() {
+        return rateLimiter.resolve("GET", "/api/chats/3f0c1d2e-8a5b-4c6d-9e7f-0a1b2c3d4e5f/messages");
+    }
+
+    @Benchmark
+    public long acquire() {
+        return rateLimiter.tryAcquire(rule, userId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long acquireContended() {
+        return rateLimiter.tryAcquire(rule, userId);
+    }
+}
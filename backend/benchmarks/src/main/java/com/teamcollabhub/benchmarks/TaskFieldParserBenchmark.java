@@ -0,0 +1,73 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.task.TaskFieldParser;
+import com.teamcollabhub.backend.task.TaskPriority;
+import com.teamcollabhub.backend.task.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request field parsing used by task create/update, including the exception-driven fallbacks
+ * for unknown enum values and date-only due dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskFieldParserBenchmark {
+
+    private String priority = "high";
+    private String unknownPriority = "urgent";
+    private String status = "in-progress";
+    private String unknownStatus = "blocked";
+    private String instant = "2025-03-01T12:00:00Z";
+    private String date = "2025-03-01";
+    private String invalidDate = "next friday";
+
+    @Benchmark
+    public TaskPriority parsePriority() {
+        return TaskFieldParser.parsePriority(priority);
+    }
+
+    @Benchmark
+    public TaskPriority parseUnknownPriority() {
+        return TaskFieldParser.parsePriority(unknownPriority);
+    }
+
+    @Benchmark
+    public TaskStatus parseStatus() {
+        return TaskFieldParser.parseStatus(status);
+    }
+
+    @Benchmark
+    public TaskStatus parseUnknownStatus() {
+        return TaskFieldParser.parseStatus(unknownStatus);
+    }
+
+    @Benchmark
+    public Instant parseInstant() {
+        return TaskFieldParser.parseInstant(instant);
+    }
+
+    @Benchmark
+    public Instant parseDateOnly() {
+        return TaskFieldParser.parseInstant(date);
+    }
+
+    @Benchmark
+    public Instant parseInvalidDate() {
+        return TaskFieldParser.parseInstant(invalidDate);
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamcollabhub.benchmarks;
+
+import com.teamcollabhub.backend.user.UserDirectory;
+import com.teamcollabhub.backend.user.UserSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assignee typeahead against a 100k-user directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDirectoryBenchmark {
+
+    private static final String[] FIRST = {"anna", "boris", "carla", "dmitri", "elena", "farid", "galina", "hugo",
+            "irina", "jamal", "kira", "leon", "maria", "nikolai", "olga", "pavel"};
+    private static final String[] LAST = {"ivanova", "smith", "garcia", "kim", "nowak", "petrov", "silva", "tanaka"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Design", "Marketing", "Sales", "Operations"};
+
+    @Param({"100000"})
+    private int users;
+
+    @Param({"a", "ma", "mari", "engin"})
+    private String query;
+
+    private UserDirectory directory;
+
+    @Setup
+    public void setUp() {
+        directory = new UserDirectory(null);
+        Random random = new Random(42);
+        for (int i = 0; i < users; i++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            directory.put(new UserSummaryResponse(UUID.randomUUID(), capitalize(first) + " " + capitalize(last),
+                    first + "." + last + i + "@example.com", null, "user",
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]));
+        }
+    }
+
+    @Benchmark
+    public List<UserSummaryResponse> search() {
+        return directory.search(query, 10);
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
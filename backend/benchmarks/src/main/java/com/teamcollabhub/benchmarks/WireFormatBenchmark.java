@@ -0,0 +1,116 @@
+package com.teamcollabhub.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamcollabhub.backend.chat.ChatMapper;
+import com.teamcollabhub.backend.chat.ChatMessageResponse;
+import com.teamcollabhub.backend.task.TaskMapper;
+import com.teamcollabhub.backend.task.TaskResponse;
+import com.teamcollabhub.backend.web.WireFormatConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding of a 1,000 task board and a 200 message chat page as JSON, CBOR and
+ * Smile, with mappers configured like the ones the API negotiates between. Run {@link #main} to
+ * print the encoded sizes, raw and gzipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int TASKS = 1000;
+    private static final int MESSAGES = 200;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"tasks", "messages"})
+    private String payload;
+
+    private ObjectMapper objectMapper;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = mapper(format);
+        value = payload(payload);
+        encoded = objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return objectMapper.readValue(encoded, value.getClass());
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-10s %-8s %10s %10s%n", "payload", "format", "bytes", "gzipped");
+        for (String payload : List.of("tasks", "messages")) {
+            Object value = payload(payload);
+            for (String format : List.of("json", "cbor", "smile")) {
+                byte[] bytes = mapper(format).writeValueAsBytes(value);
+                System.out.printf("%-10s %-8s %10d %10d%n", payload, format, bytes.length, gzip(bytes).length);
+            }
+        }
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return switch (format) {
+            // spring.jackson.serialization.WRITE_DATES_AS_TIMESTAMPS=false, as in application.yml
+            case "json" -> Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "cbor" -> WireFormatConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+            case "smile" -> WireFormatConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+
+    private static Object payload(String payload) {
+        return switch (payload) {
+            case "tasks" -> Fixtures.tasks(TASKS).stream()
+                    .map(TaskMapper::toResponse)
+                    .toArray(TaskResponse[]::new);
+            case "messages" -> Fixtures.messages(MESSAGES).stream()
+                    .map(ChatMapper::toResponse)
+                    .toArray(ChatMessageResponse[]::new);
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Runs the same load test twice with the application booted in-process, first on platform threads
+# and then on virtual threads, and prints both summaries. Needs a Java 21+ runtime; on older JDKs
+# Spring Boot ignores spring.threads.virtual.enabled and both runs use platform threads.
+#
+#   ./compare-threads.sh --mode=open --rate=600 --duration=120
+#
+# Extra arguments are passed to both runs. Reports go to results/threads/{platform,virtual}.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+jar=target/loadtest.jar
+if [[ ! -f $jar ]]; then
+  echo "Build the load generator first: mvn -f loadtest/pom.xml package" >&2
+  exit 1
+fi
+
+java_major=$(java -XshowSettings:properties -version 2>&1 | sed -n 's/^ *java.specification.version = //p')
+if (( java_major < 21 )); then
+  echo "Warning: Java $java_major does not support virtual threads; both runs will use platform threads" >&2
+fi
+
+for threads in platform virtual; do
+  enabled=false
+  [[ $threads == virtual ]] && enabled=true
+  out=results/threads/$threads
+  echo "== $threads threads"
+  java -jar "$jar" --boot --out="$out" --spring.threads.virtual.enabled=$enabled "$@"
+done
+
+for threads in platform virtual; do
+  latest=$(ls -d results/threads/$threads/*/ | sort | tail -n 1)
+  echo
+  echo "== $threads threads ($latest)"
+  cat "$latest/summary.txt"
+done
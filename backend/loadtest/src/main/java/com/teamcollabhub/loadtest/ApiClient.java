@@ -0,0 +1,165 @@
+package com.teamcollabhub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Blocking JSON client for the API. Every call is timed into {@link Metrics} under its method and
+ * route template. Expired access tokens are refreshed once, the way the front-end's client does.
+ */
+final class ApiClient {
+
+    private static final int MAX_SEEDING_RETRIES = 20;
+
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final String baseUrl;
+    private final Metrics metrics;
+    private final boolean retryWhenBusy;
+
+    /**
+     * @param retryWhenBusy wait and retry on {@code 429} and {@code 503}; used while seeding only,
+     *                      measured traffic reports those answers as errors
+     */
+    ApiClient(HttpClient http, String baseUrl, Metrics metrics, boolean retryWhenBusy) {
+        this.http = http;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.metrics = metrics;
+        this.retryWhenBusy = retryWhenBusy;
+    }
+
+    static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    JsonNode get(Session session, String route, Object... pathVariables) {
+        return send(session, "GET", route, pathVariables, null);
+    }
+
+    JsonNode post(Session session, String route, Object body, Object... pathVariables) {
+        return send(session, "POST", route, pathVariables, body);
+    }
+
+    JsonNode put(Session session, String route, Object body, Object... pathVariables) {
+        return send(session, "PUT", route, pathVariables, body);
+    }
+
+    Session register(String name, String email, String password, String department) {
+        JsonNode auth = post(null, "/api/auth/register",
+                Map.of("name", name, "email", email, "password", password, "department", department));
+        return new Session(UUID.fromString(auth.path("user").path("id").asText()), email, password,
+                auth.path("token").asText(), auth.path("refreshToken").asText());
+    }
+
+    void login(Session session) {
+        JsonNode auth = post(null, "/api/auth/login", Map.of("email", session.email(), "password", session.password()));
+        session.update(auth.path("token").asText(), auth.path("refreshToken").asText());
+    }
+
+    private JsonNode send(Session session, String method, String route, Object[] pathVariables, Object body) {
+        String path = expand(route, pathVariables);
+        String name = method + " " + route;
+        int attempt = 0;
+        boolean refreshed = false;
+        while (true) {
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = http.send(request(session, method, path, body), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException ex) {
+                metrics.record(name, System.nanoTime() - start, false);
+                throw new UncheckedIOException(method + " " + path + " failed", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", ex);
+            }
+            int status = response.statusCode();
+            metrics.record(name, System.nanoTime() - start, status < 400);
+            if (status == 401 && session != null && !refreshed) {
+                refresh(session);
+                refreshed = true;
+                continue;
+            }
+            if (retryWhenBusy && (status == 429 || status == 503) && attempt++ < MAX_SEEDING_RETRIES) {
+                pause(response);
+                continue;
+            }
+            if (status >= 400) {
+                throw new ApiException(method + " " + path, status, response.body());
+            }
+            return parse(response.body());
+        }
+    }
+
+    private void refresh(Session session) {
+        synchronized (session) {
+            JsonNode auth = post(null, "/api/auth/refresh", Map.of("refreshToken", session.refreshToken()));
+            session.update(auth.path("token").asText(), auth.path("refreshToken").asText());
+        }
+    }
+
+    private HttpRequest request(Session session, String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken());
+        }
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null || body.isEmpty()) {
+            return NullNode.getInstance();
+        }
+        try {
+            return json.readTree(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unreadable response body", ex);
+        }
+    }
+
+    private static void pause(HttpResponse<String> response) {
+        long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+        try {
+            Thread.sleep(Duration.ofSeconds(Math.max(1, seconds)).toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", ex);
+        }
+    }
+
+    private static String expand(String route, Object[] pathVariables) {
+        StringBuilder path = new StringBuilder(route.length() + 40);
+        int variable = 0;
+        int from = 0;
+        for (int open = route.indexOf('{'); open >= 0; open = route.indexOf('{', from)) {
+            path.append(route, from, open).append(pathVariables[variable++]);
+            from = route.indexOf('}', open) + 1;
+        }
+        return path.append(route, from, route.length()).toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.teamcollabhub.loadtest;
+
+/**
+ * A non-2xx answer from the API.
+ */
+final class ApiException extends RuntimeException {
+
+    private final int status;
+
+    ApiException(String request, int status, String body) {
+        super(request + " answered " + status + (body.isEmpty() ? "" : ": " + body));
+        this.status = status;
+    }
+
+    int status() {
+        return status;
+    }
+}
@@ -0,0 +1,81 @@
+package com.teamcollabhub.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed number of virtual users, each behaving like one browser tab: an action, then an
+ * exponentially distributed think time, with the open chat polled on its own timer in between.
+ * Throughput follows the server's speed, so latencies here are service times.
+ */
+final class ClosedLoopRunner implements LoadRunner {
+
+    private final Workload workload;
+    private final int virtualUsers;
+    private final long thinkNanos;
+    private final long pollNanos;
+    private final long seed;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    ClosedLoopRunner(Workload workload, int virtualUsers, Duration thinkTime, Duration pollInterval, long seed) {
+        this.workload = workload;
+        this.virtualUsers = virtualUsers;
+        this.thinkNanos = thinkTime.toNanos();
+        this.pollNanos = pollInterval.toNanos();
+        this.seed = seed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int index = 0; index < virtualUsers; index++) {
+            int userIndex = index % workload.userCount();
+            SplittableRandom random = seeds.split();
+            Thread thread = new Thread(() -> runUser(userIndex, random), "vu-" + index);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : threads) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void runUser(int userIndex, SplittableRandom random) {
+        long now = System.nanoTime();
+        long nextPoll = now + (long) (random.nextDouble() * pollNanos);
+        long nextAction = now + think(random);
+        while (running) {
+            long due = Math.min(nextPoll, nextAction);
+            while (running && (now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+            if (!running) {
+                return;
+            }
+            if (nextPoll <= nextAction) {
+                workload.run(Operation.CHAT_POLL, userIndex, random, now);
+                nextPoll = Math.max(nextPoll + pollNanos, System.nanoTime());
+            } else {
+                workload.run(workload.pick(random, Operation.CHAT_POLL), userIndex, random, now);
+                nextAction = System.nanoTime() + think(random);
+            }
+        }
+    }
+
+    private long think(SplittableRandom random) {
+        return (long) (-Math.log(1 - random.nextDouble()) * thinkNanos);
+    }
+}
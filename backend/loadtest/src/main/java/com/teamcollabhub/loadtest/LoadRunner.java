@@ -0,0 +1,11 @@
+package com.teamcollabhub.loadtest;
+
+/**
+ * Drives the {@link Workload} until stopped.
+ */
+interface LoadRunner {
+
+    void start();
+
+    void stop() throws InterruptedException;
+}
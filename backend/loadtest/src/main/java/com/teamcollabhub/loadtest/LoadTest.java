@@ -0,0 +1,86 @@
+package com.teamcollabhub.loadtest;
+
+import com.teamcollabhub.backend.TeamCollabHubApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Seeds a dataset, replays the workload in closed or open loop and prints latency percentiles
+ * and throughput per operation and endpoint. See the module README for the options.
+ */
+public final class LoadTest {
+
+    private static final int SEEDING_PARALLELISM = 8;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.baseUrl();
+        if (options.boot()) {
+            application = boot(options.springArgs());
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+        }
+        try {
+            run(options, baseUrl);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, String baseUrl) throws InterruptedException, IOException {
+        HttpClient http = ApiClient.newHttpClient();
+
+        long seedingStart = System.nanoTime();
+        System.out.printf("Seeding %d users, %d events against %s%n", options.users(), options.events(), baseUrl);
+        SeedData data = new Seeder(new ApiClient(http, baseUrl, new Metrics(), true), options, SEEDING_PARALLELISM).seed();
+        System.out.printf("Seeded in %d s%n", Duration.ofNanos(System.nanoTime() - seedingStart).toSeconds());
+
+        Metrics metrics = new Metrics();
+        Workload workload = new Workload(new ApiClient(http, baseUrl, metrics, false), data, metrics, options.mix());
+        LoadRunner runner = switch (options.mode()) {
+            case CLOSED -> new ClosedLoopRunner(workload, options.virtualUsers(), options.thinkTime(),
+                    options.pollInterval(), options.seed());
+            case OPEN -> new OpenLoopRunner(workload, options.rate(), options.maxInFlight(), options.seed());
+        };
+
+        System.out.printf("Running %s loop: %s warmup, %s measured%n",
+                options.mode().name().toLowerCase(), options.warmup(), options.duration());
+        runner.start();
+        Thread.sleep(options.warmup().toMillis());
+        metrics.reset();
+        Thread.sleep(options.duration().toMillis());
+        List<Metrics.Result> results = metrics.snapshot();
+        runner.stop();
+
+        Metrics.print(results, System.out);
+        Path directory = options.output().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + "-" + options.mode().name().toLowerCase());
+        Metrics.write(results, directory);
+        System.out.println("Histograms written to " + directory);
+    }
+
+    private static ConfigurableApplicationContext boot(List<String> springArgs) {
+        return new SpringApplicationBuilder(TeamCollabHubApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "app.rate-limit.enabled=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN")
+                .run(springArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,95 @@
+package com.teamcollabhub.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options in {@code --name=value} form. Options this class does not know are handed
+ * to Spring when the application is booted in-process, e.g. {@code --spring.datasource.url=…}.
+ */
+record LoadTestOptions(
+        String baseUrl,
+        boolean boot,
+        Mode mode,
+        int users,
+        int events,
+        int columnsPerEvent,
+        int tasksPerColumn,
+        int messagesPerChat,
+        int virtualUsers,
+        double rate,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Duration pollInterval,
+        Map<Operation, Integer> mix,
+        long seed,
+        Path output,
+        List<String> springArgs
+) {
+
+    enum Mode {
+        CLOSED,
+        OPEN
+    }
+
+    static final String DEFAULT_MIX = "board:20,drag:25,send:15,poll:38,login:2";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            String value = separator < 0 ? "true" : arg.substring(separator + 1);
+            if (name.startsWith("spring.") || name.startsWith("app.") || name.startsWith("server.")
+                    || name.startsWith("logging.")) {
+                springArgs.add(arg);
+            } else {
+                values.put(name, value);
+            }
+        }
+        boolean boot = Boolean.parseBoolean(take(values, "boot", "false"));
+        String baseUrl = values.remove("base-url");
+        if (baseUrl == null && !boot) {
+            throw new IllegalArgumentException("Either --base-url=<url> or --boot is required");
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                baseUrl,
+                boot,
+                Mode.valueOf(take(values, "mode", "closed").toUpperCase()),
+                Integer.parseInt(take(values, "users", "200")),
+                Integer.parseInt(take(values, "events", "20")),
+                Integer.parseInt(take(values, "columns", "4")),
+                Integer.parseInt(take(values, "tasks", "25")),
+                Integer.parseInt(take(values, "messages", "200")),
+                Integer.parseInt(take(values, "vus", "100")),
+                Double.parseDouble(take(values, "rate", "200")),
+                Integer.parseInt(take(values, "max-in-flight", "512")),
+                Duration.ofSeconds(Long.parseLong(take(values, "warmup", "30"))),
+                Duration.ofSeconds(Long.parseLong(take(values, "duration", "120"))),
+                Duration.ofMillis(Long.parseLong(take(values, "think-ms", "1000"))),
+                Duration.ofMillis(Long.parseLong(take(values, "poll-ms", "5000"))),
+                Operation.parseMix(take(values, "mix", DEFAULT_MIX)),
+                Long.parseLong(take(values, "seed", "42")),
+                Path.of(take(values, "out", "results")),
+                List.copyOf(springArgs));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
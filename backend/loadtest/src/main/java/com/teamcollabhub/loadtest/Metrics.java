@@ -0,0 +1,106 @@
+package com.teamcollabhub.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms per name, in microseconds. Operations ({@code op board}) and individual
+ * endpoints ({@code GET /api/tasks}) are recorded side by side.
+ */
+final class Metrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private volatile long intervalStartNanos = System.nanoTime();
+
+    void record(String name, long latencyNanos, boolean success) {
+        Series target = series.computeIfAbsent(name, key -> new Series());
+        long micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)), HIGHEST_TRACKABLE_MICROS);
+        target.recorder.recordValue(micros);
+        if (!success) {
+            target.errors.increment();
+        }
+    }
+
+    /**
+     * Drops everything recorded so far, e.g. at the end of the warmup.
+     */
+    void reset() {
+        series.values().forEach(Series::reset);
+        intervalStartNanos = System.nanoTime();
+    }
+
+    List<Result> snapshot() {
+        double seconds = (System.nanoTime() - intervalStartNanos) / 1e9;
+        List<Result> results = new ArrayList<>();
+        new TreeMap<>(series).forEach((name, target) -> results.add(target.snapshot(name, seconds)));
+        return results;
+    }
+
+    static void print(List<Result> results, PrintStream out) {
+        out.printf(Locale.ROOT, "%-36s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "name", "count", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Result result : results) {
+            Histogram histogram = result.histogram();
+            out.printf(Locale.ROOT, "%-36s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.name(), histogram.getTotalCount(), result.throughput(), result.errors(),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    /**
+     * Writes the summary table plus one {@code .hgrm} percentile distribution per name, which
+     * can be plotted with HdrHistogram's plotter.
+     */
+    static void write(List<Result> results, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(results, summary);
+        }
+        for (Result result : results) {
+            String fileName = result.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                result.histogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    record Result(String name, Histogram histogram, long errors, double throughput) {
+    }
+
+    private static final class Series {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+
+        Result snapshot(String name, double seconds) {
+            Histogram histogram = recorder.getIntervalHistogram();
+            return new Result(name, histogram, errors.sum(), seconds > 0 ? histogram.getTotalCount() / seconds : 0);
+        }
+    }
+}
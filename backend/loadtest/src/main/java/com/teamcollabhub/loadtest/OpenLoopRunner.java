@@ -0,0 +1,76 @@
+package com.teamcollabhub.loadtest;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Poisson arrivals at a fixed rate, independent of how fast the server answers. Each arrival is a
+ * random seeded user doing an operation picked from the whole mix, polls included. Latency is
+ * measured from the scheduled arrival, so when the server falls behind the backlog shows up in
+ * the percentiles instead of being hidden by a slower request rate (coordinated omission).
+ */
+final class OpenLoopRunner implements LoadRunner {
+
+    private final Workload workload;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final long seed;
+    private final AtomicInteger workerIds = new AtomicInteger();
+    private ExecutorService workers;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    OpenLoopRunner(Workload workload, double ratePerSecond, int maxInFlight, long seed) {
+        this.workload = workload;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(maxInFlight, task -> {
+            Thread thread = new Thread(task, "open-loop-" + workerIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher = new Thread(this::dispatch, "open-loop-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        dispatcher.join();
+        workers.shutdownNow();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void dispatch() {
+        SplittableRandom random = new SplittableRandom(seed);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long arrival = System.nanoTime();
+        while (running) {
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            long now;
+            while (running && (now = System.nanoTime()) < arrival) {
+                LockSupport.parkNanos(arrival - now);
+            }
+            if (!running) {
+                return;
+            }
+            Operation operation = workload.pick(random, null);
+            int userIndex = random.nextInt(workload.userCount());
+            SplittableRandom operationRandom = random.split();
+            long intendedStart = arrival;
+            workers.execute(() -> workload.run(operation, userIndex, operationRandom, intendedStart));
+        }
+    }
+}
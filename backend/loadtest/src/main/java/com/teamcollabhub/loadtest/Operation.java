@@ -0,0 +1,51 @@
+package com.teamcollabhub.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The user actions the workload is made of, named after what the front-end does.
+ */
+enum Operation {
+    /** Opening the board: events, columns and tasks, as {@code useEvents} and {@code useTasks} load them. */
+    BOARD_LOAD("board"),
+    /** Dragging a card to another column of the same event. */
+    CARD_DRAG("drag"),
+    /** Posting a chat message. */
+    CHAT_SEND("send"),
+    /** The message refresh {@code useChats} runs every five seconds while a chat is open. */
+    CHAT_POLL("poll"),
+    /** Signing in again with the seeded credentials. */
+    LOGIN("login");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like board:20, got " + entry);
+            }
+            weights.put(byKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private static Operation byKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
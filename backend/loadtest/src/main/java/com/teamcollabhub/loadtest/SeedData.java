@@ -0,0 +1,17 @@
+package com.teamcollabhub.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What the seeder created. User {@code i} is a member of board {@code i % boards.size()}.
+ */
+record SeedData(List<Session> users, List<Board> boards) {
+
+    Board boardOf(int userIndex) {
+        return boards.get(userIndex % boards.size());
+    }
+
+    record Board(UUID eventId, List<UUID> columnIds, List<UUID> taskIds, UUID chatId) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.teamcollabhub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Creates users, restricted events with their members, columns, tasks and one group chat per
+ * event through the public API, so the data goes through the same code paths as real traffic.
+ * Emails carry a run id, which lets several runs share one database.
+ */
+final class Seeder {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] DEPARTMENTS = {"Engineering", "Design", "Marketing", "Operations", "Sales"};
+    private static final String[] COLUMN_TITLES = {"Backlog", "To do", "In progress", "Review", "Done"};
+    private static final String[] PRIORITIES = {"low", "medium", "high"};
+    private static final String[] WORDS = {"venue", "budget", "catering", "speakers", "agenda", "sponsors",
+            "tickets", "schedule", "check", "update", "draft", "confirm", "today", "tomorrow", "please", "done"};
+
+    private final ApiClient api;
+    private final LoadTestOptions options;
+    private final SplittableRandom random;
+    private final int parallelism;
+
+    Seeder(ApiClient api, LoadTestOptions options, int parallelism) {
+        this.api = api;
+        this.options = options;
+        this.random = new SplittableRandom(options.seed());
+        this.parallelism = parallelism;
+    }
+
+    SeedData seed() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Session> users = invokeAll(executor, IntStream.range(0, options.users())
+                    .mapToObj(index -> (Callable<Session>) () -> api.register(
+                            "Load User " + index,
+                            "lt-" + runId + "-" + index + "@loadtest.local",
+                            PASSWORD,
+                            DEPARTMENTS[index % DEPARTMENTS.length]))
+                    .toList());
+            int eventCount = Math.min(options.events(), users.size());
+            List<SeedData.Board> boards = invokeAll(executor, IntStream.range(0, eventCount)
+                    .mapToObj(index -> {
+                        long boardSeed = random.nextLong();
+                        return (Callable<SeedData.Board>) () -> seedBoard(index, users, eventCount,
+                                new SplittableRandom(boardSeed));
+                    })
+                    .toList());
+            return new SeedData(users, boards);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SeedData.Board seedBoard(int index, List<Session> users, int eventCount, SplittableRandom random) {
+        Session owner = users.get(index);
+        List<Session> members = new ArrayList<>();
+        for (int user = index; user < users.size(); user += eventCount) {
+            members.add(users.get(user));
+        }
+
+        UUID eventId = id(api.post(owner, "/api/events",
+                Map.of("title", "Load event " + index, "description", "Seeded by the load generator", "order", index)));
+        for (Session member : members) {
+            if (member != owner) {
+                api.post(owner, "/api/events/{id}/members", Map.of("userId", member.userId(), "role", "member"), eventId);
+            }
+        }
+
+        List<UUID> columnIds = new ArrayList<>();
+        for (int column = 0; column < options.columnsPerEvent(); column++) {
+            columnIds.add(id(api.post(owner, "/api/columns", Map.of(
+                    "title", COLUMN_TITLES[column % COLUMN_TITLES.length],
+                    "eventId", eventId,
+                    "order", column,
+                    "color", "#64748b"))));
+        }
+
+        List<UUID> taskIds = new ArrayList<>();
+        for (UUID columnId : columnIds) {
+            for (int task = 0; task < options.tasksPerColumn(); task++) {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("title", sentence(random, 4));
+                body.put("description", sentence(random, 20));
+                body.put("eventId", eventId);
+                body.put("columnId", columnId);
+                body.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                body.put("assignedTo", members.get(random.nextInt(members.size())).userId());
+                body.put("createdBy", owner.userId());
+                body.put("status", "todo");
+                taskIds.add(id(api.post(owner, "/api/tasks", body)));
+            }
+        }
+
+        UUID chatId = id(api.post(owner, "/api/chats", Map.of(
+                "name", "Load event " + index,
+                "type", "group",
+                "participants", members.stream().map(Session::userId).toList())));
+        for (int message = 0; message < options.messagesPerChat(); message++) {
+            Session author = members.get(random.nextInt(members.size()));
+            api.post(author, "/api/chats/{chatId}/messages",
+                    Map.of("userId", author.userId(), "message", sentence(random, 3 + random.nextInt(15))), chatId);
+        }
+        return new SeedData.Board(eventId, List.copyOf(columnIds), List.copyOf(taskIds), chatId);
+    }
+
+    static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int word = 0; word < words; word++) {
+            if (word > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static UUID id(JsonNode node) {
+        return UUID.fromString(node.path("id").asText());
+    }
+
+    private static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Seeding failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.teamcollabhub.loadtest;
+
+import java.util.UUID;
+
+/**
+ * A signed-in seeded user. Tokens are replaced on login and refresh, so they are read fresh for
+ * every request.
+ */
+final class Session {
+
+    private final UUID userId;
+    private final String email;
+    private final String password;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+
+    Session(UUID userId, String email, String password, String accessToken, String refreshToken) {
+        this.userId = userId;
+        this.email = email;
+        this.password = password;
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    UUID userId() {
+        return userId;
+    }
+
+    String email() {
+        return email;
+    }
+
+    String password() {
+        return password;
+    }
+
+    String accessToken() {
+        return accessToken;
+    }
+
+    String refreshToken() {
+        return refreshToken;
+    }
+
+    void update(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
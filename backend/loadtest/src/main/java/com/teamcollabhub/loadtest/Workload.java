@@ -0,0 +1,95 @@
+package com.teamcollabhub.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes operations on behalf of seeded users and records their end-to-end latency as
+ * {@code op <name>}, next to the per-endpoint series the client records.
+ */
+final class Workload {
+
+    private static final int LOGGED_ERRORS = 10;
+
+    private final ApiClient api;
+    private final SeedData data;
+    private final Metrics metrics;
+    private final Map<Operation, Integer> mix;
+    private final AtomicInteger loggedErrors = new AtomicInteger();
+
+    Workload(ApiClient api, SeedData data, Metrics metrics, Map<Operation, Integer> mix) {
+        this.api = api;
+        this.data = data;
+        this.metrics = metrics;
+        this.mix = new EnumMap<>(mix);
+    }
+
+    int userCount() {
+        return data.users().size();
+    }
+
+    /**
+     * Picks an operation by weight; {@code excluded} (may be {@code null}) is never picked.
+     */
+    Operation pick(SplittableRandom random, Operation excluded) {
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            total += entry.getKey() == excluded ? 0 : entry.getValue();
+        }
+        if (total <= 0) {
+            throw new IllegalStateException("The mix has no operations to pick from");
+        }
+        int ticket = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            if (entry.getKey() == excluded) {
+                continue;
+            }
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /**
+     * Runs one operation. Latency is measured from {@code intendedStartNanos}, which is when the
+     * operation should have started; open-loop callers pass the scheduled arrival time so that
+     * time spent queueing behind a slow server is not silently left out.
+     */
+    void run(Operation operation, int userIndex, SplittableRandom random, long intendedStartNanos) {
+        boolean success = false;
+        try {
+            execute(operation, userIndex, random);
+            success = true;
+        } catch (RuntimeException ex) {
+            if (loggedErrors.incrementAndGet() <= LOGGED_ERRORS) {
+                System.err.println(operation.key() + " failed: " + ex.getMessage());
+            }
+        } finally {
+            metrics.record("op " + operation.key(), System.nanoTime() - intendedStartNanos, success);
+        }
+    }
+
+    private void execute(Operation operation, int userIndex, SplittableRandom random) {
+        Session session = data.users().get(userIndex);
+        SeedData.Board board = data.boardOf(userIndex);
+        switch (operation) {
+            case BOARD_LOAD -> {
+                api.get(session, "/api/events");
+                api.get(session, "/api/columns");
+                api.get(session, "/api/tasks");
+            }
+            case CARD_DRAG -> api.put(session, "/api/tasks/{id}",
+                    Map.of("columnId", board.columnIds().get(random.nextInt(board.columnIds().size()))),
+                    board.taskIds().get(random.nextInt(board.taskIds().size())));
+            case CHAT_SEND -> api.post(session, "/api/chats/{chatId}/messages",
+                    Map.of("userId", session.userId(), "message", Seeder.sentence(random, 3 + random.nextInt(15))),
+                    board.chatId());
+            case CHAT_POLL -> api.get(session, "/api/chats/{chatId}/messages", board.chatId());
+            case LOGIN -> api.login(session);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamcollabhub.backend.attachment;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/chats/{chatId}/messages/{messageId}/attachments")
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    public AttachmentController(AttachmentService attachmentService) {
+        this.attachmentService = attachmentService;
+    }
+
+    @GetMapping
+    public List<AttachmentResponse> getAttachments(@PathVariable UUID chatId, @PathVariable UUID messageId) {
+        return attachmentService.findByMessage(chatId, messageId).stream()
+                .map(AttachmentMapper::toResponse)
+                .toList();
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public AttachmentResponse upload(@PathVariable UUID chatId,
+                                     @PathVariable UUID messageId,
+                                     @RequestParam("file") MultipartFile file) {
+        return AttachmentMapper.toResponse(attachmentService.upload(chatId, messageId, file));
+    }
+
+    @GetMapping("/{id}/content")
+    public void download(@PathVariable UUID chatId,
+                         @PathVariable UUID messageId,
+                         @PathVariable UUID id,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getById(chatId, messageId, id);
+        Path content = attachmentService.resolveContent(attachment);
+        String inlineType = InlineImageTypes.inlineType(attachment.getContentType(), content);
+        FileRangeWriter.write(content, attachment.getSize(), attachment.getHash(),
+                inlineType != null ? inlineType : attachment.getContentType(), attachment.getFileName(),
+                inlineType != null, request, response);
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    public void thumbnail(@PathVariable UUID chatId,
+                          @PathVariable UUID messageId,
+                          @PathVariable UUID id,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getById(chatId, messageId, id);
+        Path thumbnail = attachmentService.resolveThumbnail(attachment);
+        FileRangeWriter.write(thumbnail, Files.size(thumbnail), attachment.getThumbnailHash(),
+                MediaType.IMAGE_PNG_VALUE, "thumbnail.png", true, request, response);
+    }
+}
@@ -0,0 +1,19 @@
+package com.teamcollabhub.backend.attachment;
+
+public final class AttachmentMapper {
+
+    private AttachmentMapper() {
+    }
+
+    public static AttachmentResponse toResponse(Attachment attachment) {
+        return new AttachmentResponse(
+                attachment.getId(),
+                attachment.getMessage().getId(),
+                attachment.getFileName(),
+                attachment.getContentType(),
+                attachment.getSize(),
+                attachment.getThumbnailHash() != null,
+                attachment.getCreatedAt()
+        );
+    }
+}
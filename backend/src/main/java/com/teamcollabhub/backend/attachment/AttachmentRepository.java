@@ -0,0 +1,28 @@
+package com.teamcollabhub.backend.attachment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+    List<Attachment> findByMessageIdOrderByCreatedAtAsc(UUID messageId);
+
+    @Query("""
+            SELECT new com.teamcollabhub.backend.attachment.AttachmentResponse(a.id, a.message.id, a.fileName,
+                   a.contentType, a.size, CASE WHEN a.thumbnailHash IS NOT NULL THEN true ELSE false END, a.createdAt)
+            FROM Attachment a
+            WHERE a.message.chat.id = :chatId
+            ORDER BY a.createdAt ASC
+            """)
+    List<AttachmentResponse> findResponsesByChatId(UUID chatId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnailHash = :thumbnailHash WHERE a.id = :id")
+    int updateThumbnailHash(@Param("id") UUID id, @Param("thumbnailHash") String thumbnailHash);
+}
@@ -0,0 +1,14 @@
+package com.teamcollabhub.backend.attachment;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AttachmentResponse(
+        UUID id,
+        UUID messageId,
+        String fileName,
+        String contentType,
+        long size,
+        boolean hasThumbnail,
+        Instant createdAt
+) {}
@@ -0,0 +1,118 @@
+package com.teamcollabhub.backend.attachment;
+
+import com.teamcollabhub.backend.chat.ChatMessage;
+import com.teamcollabhub.backend.chat.ChatMessageRepository;
+import com.teamcollabhub.backend.exception.BadRequestException;
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class AttachmentService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final AttachmentRepository attachmentRepository;
+    private final ChatMessageRepository messageRepository;
+    private final AttachmentStorage storage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             ChatMessageRepository messageRepository,
+                             AttachmentStorage storage,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate) {
+        this.attachmentRepository = attachmentRepository;
+        this.messageRepository = messageRepository;
+        this.storage = storage;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Attachment> findByMessage(UUID chatId, UUID messageId) {
+        getMessage(chatId, messageId);
+        return attachmentRepository.findByMessageIdOrderByCreatedAtAsc(messageId);
+    }
+
+    @Transactional(readOnly = true)
+    public Attachment getById(UUID chatId, UUID messageId, UUID attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found"));
+        ChatMessage message = attachment.getMessage();
+        if (!message.getId().equals(messageId) || !message.getChat().getId().equals(chatId)) {
+            throw new ResourceNotFoundException("Attachment not found in message");
+        }
+        return attachment;
+    }
+
+    /**
+     * Streams and hashes the upload before opening a transaction, so a connection is only held for
+     * the message check and the insert. Content stored for a message that turns out not to exist is
+     * left behind; stored files are content-addressed and never overwritten.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Attachment upload(UUID chatId, UUID messageId, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("Attachment is empty");
+        }
+        AttachmentStorage.StoredFile stored;
+        try (InputStream content = file.getInputStream()) {
+            stored = storage.store(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read upload", ex);
+        }
+
+        return transactionTemplate.execute(status -> {
+            Attachment attachment = new Attachment();
+            attachment.setMessage(getMessage(chatId, messageId));
+            attachment.setFileName(fileName(file));
+            attachment.setContentType(StringUtils.hasText(file.getContentType()) ? file.getContentType() : DEFAULT_CONTENT_TYPE);
+            attachment.setSize(stored.size());
+            attachment.setHash(stored.hash());
+            Attachment saved = attachmentRepository.save(attachment);
+            eventPublisher.publishEvent(new AttachmentStoredEvent(saved.getId()));
+            return saved;
+        });
+    }
+
+    public Path resolveContent(Attachment attachment) {
+        return storage.resolve(attachment.getHash());
+    }
+
+    public Path resolveThumbnail(Attachment attachment) {
+        if (attachment.getThumbnailHash() == null) {
+            throw new ResourceNotFoundException("Thumbnail not available");
+        }
+        return storage.resolve(attachment.getThumbnailHash());
+    }
+
+    private ChatMessage getMessage(UUID chatId, UUID messageId) {
+        ChatMessage message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
+        if (!message.getChat().getId().equals(chatId)) {
+            throw new ResourceNotFoundException("Message not found in chat");
+        }
+        return message;
+    }
+
+    private String fileName(MultipartFile file) {
+        String original = StringUtils.getFilename(StringUtils.cleanPath(
+                file.getOriginalFilename() != null ? file.getOriginalFilename() : ""));
+        return StringUtils.hasText(original) ? original : "attachment";
+    }
+}
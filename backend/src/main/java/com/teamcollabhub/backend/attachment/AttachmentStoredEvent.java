@@ -0,0 +1,5 @@
+package com.teamcollabhub.backend.attachment;
+
+import java.util.UUID;
+
+public record AttachmentStoredEvent(UUID attachmentId) {}
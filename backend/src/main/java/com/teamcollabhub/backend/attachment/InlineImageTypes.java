@@ -0,0 +1,71 @@
+package com.teamcollabhub.backend.attachment;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The raster image types that may be shown inline. The stored content type is whatever the client
+ * sent, so a file only counts as one of them when its leading bytes agree; anything else,
+ * including SVG, is served as a download.
+ */
+final class InlineImageTypes {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+    private static final byte[] GIF87 = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GIF89 = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 12;
+
+    private InlineImageTypes() {
+    }
+
+    /**
+     * The media type to serve the file inline with, or {@code null} if it must be downloaded.
+     */
+    static String inlineType(String declaredType, Path file) throws IOException {
+        String sniffed = sniff(file);
+        if (sniffed == null || declaredType == null) {
+            return null;
+        }
+        try {
+            return MediaType.parseMediaType(declaredType).equalsTypeAndSubtype(MediaType.parseMediaType(sniffed))
+                    ? sniffed
+                    : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static String sniff(Path file) throws IOException {
+        byte[] header;
+        try (InputStream in = Files.newInputStream(file)) {
+            header = in.readNBytes(HEADER_BYTES);
+        }
+        if (startsWith(header, 0, PNG)) {
+            return MediaType.IMAGE_PNG_VALUE;
+        }
+        if (startsWith(header, 0, JPEG)) {
+            return MediaType.IMAGE_JPEG_VALUE;
+        }
+        if (startsWith(header, 0, GIF87) || startsWith(header, 0, GIF89)) {
+            return MediaType.IMAGE_GIF_VALUE;
+        }
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP)) {
+            return "image/webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] magic) {
+        return header.length >= offset + magic.length
+                && Arrays.equals(header, offset, offset + magic.length, magic, 0, magic.length);
+    }
+}
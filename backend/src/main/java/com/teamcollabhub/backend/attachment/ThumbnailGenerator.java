@@ -0,0 +1,113 @@
+package com.teamcollabhub.backend.attachment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+@Component
+public class ThumbnailGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailGenerator.class);
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStorage storage;
+    private final int thumbnailSize;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+
+    public ThumbnailGenerator(AttachmentRepository attachmentRepository,
+                              AttachmentStorage storage,
+                              @Value("${app.attachments.thumbnail-size:256}") int thumbnailSize,
+                              @Value("${app.attachments.thumbnail-max-source-bytes:26214400}") long maxSourceBytes,
+                              @Value("${app.attachments.thumbnail-max-source-pixels:50000000}") long maxSourcePixels) {
+        this.attachmentRepository = attachmentRepository;
+        this.storage = storage;
+        this.thumbnailSize = thumbnailSize;
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    /**
+     * Runs without a transaction: the attachment is read and the thumbnail hash written in two short
+     * statements, so no connection is held while the image is decoded and scaled.
+     */
+    @Async
+    @TransactionalEventListener
+    public void onAttachmentStored(AttachmentStoredEvent event) {
+        attachmentRepository.findById(event.attachmentId()).ifPresent(attachment -> {
+            if (!attachment.getContentType().startsWith("image/") || attachment.getSize() > maxSourceBytes) {
+                return;
+            }
+            try {
+                BufferedImage thumbnail = render(storage.resolve(attachment.getHash()));
+                if (thumbnail == null) {
+                    return;
+                }
+                ByteArrayOutputStream png = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, "png", png);
+                AttachmentStorage.StoredFile stored = storage.store(new ByteArrayInputStream(png.toByteArray()));
+                attachmentRepository.updateThumbnailHash(attachment.getId(), stored.hash());
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Thumbnail generation failed for attachment {}", attachment.getId(), ex);
+            }
+        });
+    }
+
+    private BufferedImage render(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (thumbnailSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return scale(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        double ratio = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -1,11 +1,12 @@
 package com.teamcollabhub.backend.auth;
 
+import com.teamcollabhub.backend.security.AuthenticatedUser;
 import com.teamcollabhub.backend.user.UserMapper;
 import com.teamcollabhub.backend.user.UserRepository;
 import com.teamcollabhub.backend.user.UserResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import com.teamcollabhub.backend.user.User;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,13 +32,23 @@ public class AuthController {
         return authService.login(request);
     }
 
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@Valid @RequestBody RefreshRequest request) {
+        return authService.refresh(request);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout() {
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(accessToken, request != null ? request.refreshToken() : null);
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/me")
-    public UserResponse me(@AuthenticationPrincipal User user) {
-        return UserMapper.toResponse(userRepository.findById(user.getId()).orElseThrow());
+    public UserResponse me(@AuthenticationPrincipal AuthenticatedUser user) {
+        return UserMapper.toResponse(userRepository.findById(user.id()).orElseThrow());
     }
 }
@@ -4,5 +4,7 @@ import com.teamcollabhub.backend.user.UserResponse;
 
 public record AuthResponse(
         String token,
+        String refreshToken,
+        long expiresIn,
         UserResponse user
 ) {}
@@ -2,38 +2,61 @@ package com.teamcollabhub.backend.auth;
 
 import com.teamcollabhub.backend.exception.BadRequestException;
 import com.teamcollabhub.backend.security.JwtTokenProvider;
+import com.teamcollabhub.backend.security.TokenRevocationList;
 import com.teamcollabhub.backend.user.User;
+import com.teamcollabhub.backend.user.UserChangedEvent;
 import com.teamcollabhub.backend.user.UserMapper;
 import com.teamcollabhub.backend.user.UserRepository;
-import com.teamcollabhub.backend.user.UserResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.UUID;
+
+/**
+ * Registration and login hash passwords outside any transaction, so a caller queued on the
+ * password encoder does not hold a pooled connection: lookups and writes each run in their own
+ * short transaction around the hash.
+ */
 @Service
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList revocationList;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        AuthenticationManager authenticationManager,
-                       JwtTokenProvider jwtTokenProvider) {
+                       JwtTokenProvider jwtTokenProvider,
+                       RefreshTokenService refreshTokenService,
+                       TokenRevocationList revocationList,
+                       ApplicationEventPublisher eventPublisher,
+                       TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.revocationList = revocationList;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        Boolean taken = transactionTemplate.execute(status -> userRepository.existsByEmail(request.email()));
+        if (Boolean.TRUE.equals(taken)) {
             throw new BadRequestException("Email is already registered");
         }
 
@@ -43,27 +66,42 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.password()));
         user.setDepartment(request.department());
         user.setRole("user");
-        user.setAvatar(defaultAvatar(request.name()));
-        User saved = userRepository.save(user);
-
-        String token = jwtTokenProvider.generateToken(saved.getId().toString(), saved.getEmail());
-        UserResponse response = UserMapper.toResponse(saved);
-        return new AuthResponse(token, response);
+        user.setAvatar(UserMapper.defaultAvatarUrl(request.name()));
+        return transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.of(saved));
+            return refreshTokenService.issue(saved);
+        });
     }
 
+    /**
+     * The user is looked up and a rehashed password saved in transactions of their own inside the
+     * authentication manager; the token is issued in another one.
+     */
     public AuthResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password())
         );
         User user = (User) authentication.getPrincipal();
-        String token = jwtTokenProvider.generateToken(user.getId().toString(), user.getEmail());
-        return new AuthResponse(token, UserMapper.toResponse(user));
+        return refreshTokenService.issue(user);
     }
 
-    private String defaultAvatar(String name) {
-        if (name == null || name.isBlank()) {
-            return null;
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponse refresh(RefreshRequest request) {
+        return refreshTokenService.rotate(request.refreshToken());
+    }
+
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            jwtTokenProvider.verify(accessToken).ifPresent(claims -> {
+                if (claims.getId() != null) {
+                    revocationList.revoke(UUID.fromString(claims.getId()), claims.getExpiration().toInstant());
+                }
+            });
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
         }
-        return "https://ui-avatars.com/api/?name=" + name.replace(" ", "%20") + "&background=0D8ABC&color=fff";
     }
 }
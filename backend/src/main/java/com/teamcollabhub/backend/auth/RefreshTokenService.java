@@ -0,0 +1,149 @@
+package com.teamcollabhub.backend.auth;
+
+import com.teamcollabhub.backend.security.IssuedToken;
+import com.teamcollabhub.backend.security.JwtTokenProvider;
+import com.teamcollabhub.backend.security.TokenRevocationList;
+import com.teamcollabhub.backend.user.User;
+import com.teamcollabhub.backend.user.UserMapper;
+import com.teamcollabhub.backend.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens that rotate on every use. Only a SHA-256 hash is stored. Presenting a
+ * token that was already rotated is treated as theft and revokes the whole token family,
+ * including the access tokens issued from it. The exception is a token presented again within
+ * {@code app.security.refresh.reuse-grace-ms} of its rotation while its family is still active,
+ * as two browser tabs sharing one token do when their access token expires: that request gets a
+ * sibling token in the same family.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+    private final Duration refreshTtl;
+    private final Duration reuseGrace;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               JwtTokenProvider jwtTokenProvider,
+                               TokenRevocationList revocationList,
+                               @Value("${app.security.refresh.expiration-ms:2592000000}") long refreshTtlMs,
+                               @Value("${app.security.refresh.reuse-grace-ms:5000}") long reuseGraceMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
+        this.refreshTtl = Duration.ofMillis(refreshTtlMs);
+        this.reuseGrace = Duration.ofMillis(reuseGraceMs);
+    }
+
+    public AuthResponse issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponse rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        Instant now = Instant.now();
+        if (current.getRevokedAt() != null && !isConcurrentReuse(current, now)) {
+            revokeFamily(current.getFamilyId(), now);
+            throw new BadCredentialsException("Refresh token has already been used");
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        if (current.getRevokedAt() == null) {
+            current.setRevokedAt(now);
+        }
+        return issue(user, current.getFamilyId());
+    }
+
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.refresh.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private AuthResponse issue(User user, UUID familyId) {
+        IssuedToken access = jwtTokenProvider.issue(user.getId().toString(), user.getEmail());
+        String rawToken = newRawToken();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setUserId(user.getId());
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setAccessTokenId(access.id());
+        refreshToken.setAccessExpiresAt(access.expiresAt());
+        refreshToken.setExpiresAt(Instant.now().plus(refreshTtl));
+        refreshTokenRepository.save(refreshToken);
+
+        return new AuthResponse(access.value(), rawToken, jwtTokenProvider.getExpirationMs() / 1000,
+                UserMapper.toResponse(user));
+    }
+
+    /**
+     * A rotated token presented again shortly after its rotation, while the token that replaced
+     * it is still valid. A family revoked by logout or reuse detection has no valid token left.
+     */
+    private boolean isConcurrentReuse(RefreshToken token, Instant now) {
+        if (token.getRevokedAt().plus(reuseGrace).isBefore(now)) {
+            return false;
+        }
+        return refreshTokenRepository.findByFamilyId(token.getFamilyId()).stream()
+                .anyMatch(other -> other.getRevokedAt() == null && other.getExpiresAt().isAfter(now));
+    }
+
+    private void revokeFamily(UUID familyId, Instant now) {
+        for (RefreshToken token : refreshTokenRepository.findByFamilyId(familyId)) {
+            if (token.getRevokedAt() == null) {
+                token.setRevokedAt(now);
+            }
+            if (token.getAccessTokenId() != null && token.getAccessExpiresAt() != null) {
+                revocationList.revoke(token.getAccessTokenId(), token.getAccessExpiresAt());
+            }
+        }
+    }
+
+    private static String newRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
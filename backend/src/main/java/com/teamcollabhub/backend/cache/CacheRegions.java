@@ -0,0 +1,17 @@
+package com.teamcollabhub.backend.cache;
+
+/**
+ * Names of the Hibernate second-level cache regions. Each one is created up front by
+ * {@link SecondLevelCacheConfig}; Hibernate refuses to start if an entity or query names a region
+ * that is not listed there.
+ */
+public final class CacheRegions {
+
+    public static final String EVENTS = "events";
+    public static final String BOARD_COLUMNS = "board-columns";
+    public static final String USERS = "users";
+    public static final String BOARD_COLUMNS_BY_EVENT = "board-columns-by-event";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.teamcollabhub.backend.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.jpa.cache")
+public record SecondLevelCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration ttl,
+        @DefaultValue Map<String, Long> maxSize
+) {
+
+    private static final long DEFAULT_MAX_SIZE = 10_000;
+
+    public long maxSize(String region) {
+        return maxSize.getOrDefault(region, DEFAULT_MAX_SIZE);
+    }
+}
@@ -0,0 +1,29 @@
+package com.teamcollabhub.backend.cache;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The JCache region factory, except that query results are only stored when the session's cache
+ * mode allows puts. Hibernate honours {@code CacheMode.GET} for entities but still stores the
+ * result of a query cache miss, which would let a session that must not fill the cache (such as
+ * one reading from a lagging replica) put its rows there anyway.
+ */
+public class StoreModeAwareRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        verifyStarted();
+        return new QueryResultsRegionTemplate(regionName, this, createQueryResultsRegionStorageAccess(regionName, sessionFactory)) {
+            @Override
+            public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+                if (session.getCacheMode().isPutEnabled()) {
+                    super.putIntoCache(key, value, session);
+                }
+            }
+        };
+    }
+}
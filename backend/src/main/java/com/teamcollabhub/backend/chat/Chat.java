@@ -9,7 +9,8 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "chats")
+@Table(name = "chats", uniqueConstraints = @UniqueConstraint(
+        name = "uk_chats_direct_pair", columnNames = {"direct_user_low", "direct_user_high"}))
 public class Chat {
 
     @Id
@@ -33,6 +34,12 @@ public class Chat {
     private String lastMessage;
     private Instant lastMessageTime;
 
+    @Column(name = "direct_user_low")
+    private UUID directUserLow;
+
+    @Column(name = "direct_user_high")
+    private UUID directUserHigh;
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
@@ -95,4 +102,20 @@ public class Chat {
     public void setLastMessageTime(Instant lastMessageTime) {
         this.lastMessageTime = lastMessageTime;
     }
+
+    public UUID getDirectUserLow() {
+        return directUserLow;
+    }
+
+    public void setDirectUserLow(UUID directUserLow) {
+        this.directUserLow = directUserLow;
+    }
+
+    public UUID getDirectUserHigh() {
+        return directUserHigh;
+    }
+
+    public void setDirectUserHigh(UUID directUserHigh) {
+        this.directUserHigh = directUserHigh;
+    }
 }
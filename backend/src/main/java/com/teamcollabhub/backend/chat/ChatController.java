@@ -1,6 +1,8 @@
 package com.teamcollabhub.backend.chat;
 
+import com.teamcollabhub.backend.security.AuthenticatedUser;
 import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,26 +20,27 @@ public class ChatController {
 
     @GetMapping
     public List<ChatResponse> getChats() {
-        return chatService.findAll().stream()
-                .map(ChatMapper::toResponse)
-                .toList();
+        return chatService.findAll();
     }
 
     @GetMapping("/{id}")
     public ChatResponse getChat(@PathVariable UUID id) {
-        return ChatMapper.toResponse(chatService.getById(id));
+        return chatService.getResponse(id);
     }
 
     @PostMapping
     public ChatResponse createChat(@Valid @RequestBody ChatRequest request) {
-        return ChatMapper.toResponse(chatService.create(request));
+        return chatService.create(request);
+    }
+
+    @PostMapping("/direct/{userId}")
+    public ChatResponse openDirectChat(@PathVariable UUID userId, @AuthenticationPrincipal AuthenticatedUser user) {
+        return chatService.findOrCreateDirect(user.id(), userId);
     }
 
     @GetMapping("/{chatId}/messages")
     public List<ChatMessageResponse> getMessages(@PathVariable UUID chatId) {
-        return chatService.getMessages(chatId).stream()
-                .map(ChatMapper::toResponse)
-                .toList();
+        return chatService.getMessages(chatId);
     }
 
     @PostMapping("/{chatId}/messages")
@@ -46,6 +49,11 @@ public class ChatController {
         return ChatMapper.toResponse(chatService.createMessage(chatId, request));
     }
 
+    @GetMapping("/{chatId}/messages/{messageId}/thread")
+    public List<ChatMessageResponse> getThread(@PathVariable UUID chatId, @PathVariable UUID messageId) {
+        return chatService.getThread(chatId, messageId);
+    }
+
     @DeleteMapping("/{chatId}/messages/{messageId}")
     public void deleteMessage(@PathVariable UUID chatId, @PathVariable UUID messageId) {
         chatService.deleteMessage(chatId, messageId);
@@ -1,6 +1,13 @@
 package com.teamcollabhub.backend.chat;
 
+import com.teamcollabhub.backend.attachment.AttachmentMapper;
+import com.teamcollabhub.backend.attachment.AttachmentResponse;
+
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class ChatMapper {
@@ -9,7 +16,7 @@ public final class ChatMapper {
     }
 
     public static ChatResponse toResponse(Chat chat) {
-        Set<java.util.UUID> participants = chat.getParticipants().stream()
+        Set<UUID> participants = chat.getParticipants().stream()
                 .map(user -> user.getId())
                 .collect(Collectors.toSet());
         return new ChatResponse(
@@ -23,6 +30,18 @@ public final class ChatMapper {
         );
     }
 
+    public static ChatResponse toResponse(ChatRow row, Set<UUID> participants) {
+        return new ChatResponse(
+                row.id(),
+                row.name(),
+                row.type() != null ? row.type().name().toLowerCase() : null,
+                participants,
+                row.createdAt(),
+                row.lastMessage(),
+                row.lastMessageTime()
+        );
+    }
+
     public static ChatMessageResponse toResponse(ChatMessage message) {
         return new ChatMessageResponse(
                 message.getId(),
@@ -30,7 +49,40 @@ public final class ChatMapper {
                 message.getUser().getId(),
                 message.getMessage(),
                 message.getTimestamp(),
-                message.getReplyTo() != null ? message.getReplyTo().getId() : null
+                message.getReplyTo() != null ? message.getReplyTo().getId() : null,
+                message.getReplyCount(),
+                message.getLastReplyAt(),
+                message.getAttachments().stream()
+                        .map(AttachmentMapper::toResponse)
+                        .toList(),
+                reactions(message)
         );
     }
+
+    public static ChatMessageResponse toResponse(ChatMessageRow row,
+                                                 List<AttachmentResponse> attachments,
+                                                 Map<String, Long> reactions) {
+        return new ChatMessageResponse(
+                row.id(),
+                row.chatId(),
+                row.userId(),
+                row.message(),
+                row.timestamp(),
+                row.replyTo(),
+                row.replyCount(),
+                row.lastReplyAt(),
+                attachments,
+                new TreeMap<>(reactions)
+        );
+    }
+
+    private static Map<String, Long> reactions(ChatMessage message) {
+        Map<String, Long> reactions = new TreeMap<>();
+        message.getReactionCounts().forEach((emoji, count) -> {
+            if (count > 0) {
+                reactions.put(emoji, count);
+            }
+        });
+        return reactions;
+    }
 }
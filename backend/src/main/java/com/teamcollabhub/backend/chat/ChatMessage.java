@@ -1,13 +1,22 @@
 package com.teamcollabhub.backend.chat;
 
+import com.teamcollabhub.backend.attachment.Attachment;
 import com.teamcollabhub.backend.user.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_reply_to", columnList = "reply_to"),
+        @Index(name = "idx_chat_messages_thread_root", columnList = "thread_root_id")
+})
 public class ChatMessage {
 
     @Id
@@ -32,6 +41,27 @@ public class ChatMessage {
     @JoinColumn(name = "reply_to")
     private ChatMessage replyTo;
 
+    @Column(name = "thread_root_id")
+    private UUID threadRootId;
+
+    @Column(name = "reply_count", nullable = false, columnDefinition = "integer default 0")
+    private int replyCount = 0;
+
+    @Column(name = "last_reply_at")
+    private Instant lastReplyAt;
+
+    @OneToMany(mappedBy = "message", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("createdAt ASC")
+    @BatchSize(size = 100)
+    private List<Attachment> attachments = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "chat_message_reaction_counts", joinColumns = @JoinColumn(name = "message_id"))
+    @MapKeyColumn(name = "emoji", length = 32)
+    @Column(name = "reaction_count", nullable = false)
+    @BatchSize(size = 100)
+    private Map<String, Long> reactionCounts = new HashMap<>();
+
     @PrePersist
     public void prePersist() {
         if (timestamp == null) {
@@ -86,4 +116,44 @@ public class ChatMessage {
     public void setReplyTo(ChatMessage replyTo) {
         this.replyTo = replyTo;
     }
+
+    public UUID getThreadRootId() {
+        return threadRootId;
+    }
+
+    public void setThreadRootId(UUID threadRootId) {
+        this.threadRootId = threadRootId;
+    }
+
+    public int getReplyCount() {
+        return replyCount;
+    }
+
+    public void setReplyCount(int replyCount) {
+        this.replyCount = replyCount;
+    }
+
+    public Instant getLastReplyAt() {
+        return lastReplyAt;
+    }
+
+    public void setLastReplyAt(Instant lastReplyAt) {
+        this.lastReplyAt = lastReplyAt;
+    }
+
+    public List<Attachment> getAttachments() {
+        return attachments;
+    }
+
+    public void setAttachments(List<Attachment> attachments) {
+        this.attachments = attachments;
+    }
+
+    public Map<String, Long> getReactionCounts() {
+        return reactionCounts;
+    }
+
+    public void setReactionCounts(Map<String, Long> reactionCounts) {
+        this.reactionCounts = reactionCounts;
+    }
 }
@@ -1,10 +1,59 @@
 package com.teamcollabhub.backend.chat;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID> {
-    List<ChatMessage> findByChatIdOrderByTimestampAsc(UUID chatId);
+
+    @Query("""
+            SELECT new com.teamcollabhub.backend.chat.ChatMessageRow(m.id, m.chat.id, m.user.id, m.message,
+                   m.timestamp, m.replyTo.id, m.replyCount, m.lastReplyAt)
+            FROM ChatMessage m
+            WHERE m.chat.id = :chatId
+            ORDER BY m.timestamp ASC
+            """)
+    List<ChatMessageRow> findRowsByChatId(@Param("chatId") UUID chatId);
+
+    @Query("""
+            SELECT new com.teamcollabhub.backend.chat.ReactionCountRow(m.id, KEY(r), VALUE(r))
+            FROM ChatMessage m JOIN m.reactionCounts r
+            WHERE m.chat.id = :chatId AND VALUE(r) > 0
+            """)
+    List<ReactionCountRow> findReactionCountsByChatId(@Param("chatId") UUID chatId);
+
+    @Query(value = """
+            WITH RECURSIVE thread AS (
+                SELECT m.* FROM chat_messages m WHERE m.id = :messageId AND m.chat_id = :chatId
+                UNION ALL
+                SELECT r.* FROM chat_messages r JOIN thread t ON r.reply_to = t.id
+            )
+            SELECT * FROM thread ORDER BY timestamp ASC
+            """, nativeQuery = true)
+    List<ChatMessage> findThread(@Param("chatId") UUID chatId, @Param("messageId") UUID messageId);
+
+    @Modifying
+    @Query("""
+            UPDATE ChatMessage m
+            SET m.replyCount = m.replyCount + 1,
+                m.lastReplyAt = CASE WHEN m.lastReplyAt IS NULL OR m.lastReplyAt < :repliedAt
+                                     THEN :repliedAt ELSE m.lastReplyAt END
+            WHERE m.id = :rootId
+            """)
+    void recordReply(@Param("rootId") UUID rootId, @Param("repliedAt") Instant repliedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE ChatMessage m
+            SET m.replyCount = CASE WHEN m.replyCount > 0 THEN m.replyCount - 1 ELSE 0 END,
+                m.lastReplyAt = (SELECT MAX(r.timestamp) FROM ChatMessage r
+                                 WHERE r.threadRootId = :rootId AND r.id <> :removedId)
+            WHERE m.id = :rootId
+            """)
+    void removeReply(@Param("rootId") UUID rootId, @Param("removedId") UUID removedId);
 }
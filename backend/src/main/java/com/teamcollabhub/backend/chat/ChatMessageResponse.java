@@ -1,6 +1,10 @@
 package com.teamcollabhub.backend.chat;
 
+import com.teamcollabhub.backend.attachment.AttachmentResponse;
+
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public record ChatMessageResponse(
@@ -9,5 +13,9 @@ public record ChatMessageResponse(
         UUID userId,
         String message,
         Instant timestamp,
-        UUID replyTo
+        UUID replyTo,
+        int replyCount,
+        Instant lastReplyAt,
+        List<AttachmentResponse> attachments,
+        Map<String, Long> reactions
 ) {}
@@ -0,0 +1,19 @@
+package com.teamcollabhub.backend.chat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Scalar columns of a chat message. Attachments and reaction counts are selected per chat and
+ * joined in memory.
+ */
+public record ChatMessageRow(
+        UUID id,
+        UUID chatId,
+        UUID userId,
+        String message,
+        Instant timestamp,
+        UUID replyTo,
+        int replyCount,
+        Instant lastReplyAt
+) {}
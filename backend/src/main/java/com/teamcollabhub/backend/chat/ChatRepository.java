@@ -1,8 +1,54 @@
 package com.teamcollabhub.backend.chat;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ChatRepository extends JpaRepository<Chat, UUID> {
+
+    String SELECT_ROW = """
+            SELECT new com.teamcollabhub.backend.chat.ChatRow(c.id, c.name, c.type, c.createdAt, c.lastMessage,
+                   c.lastMessageTime)
+            FROM Chat c
+            """;
+
+    @Query(SELECT_ROW)
+    List<ChatRow> findAllRows();
+
+    @Query(SELECT_ROW + "WHERE c.id = :id")
+    Optional<ChatRow> findRowById(@Param("id") UUID id);
+
+    @Query("SELECT new com.teamcollabhub.backend.chat.ChatParticipantRow(c.id, p.id) FROM Chat c JOIN c.participants p")
+    List<ChatParticipantRow> findAllParticipants();
+
+    @Query("SELECT p.id FROM Chat c JOIN c.participants p WHERE c.id = :chatId")
+    List<UUID> findParticipantIds(@Param("chatId") UUID chatId);
+
+    Optional<Chat> findByDirectUserLowAndDirectUserHigh(UUID directUserLow, UUID directUserHigh);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO chats (id, type, created_at, direct_user_low, direct_user_high)
+            VALUES (:id, 'PERSONAL', :createdAt, :low, :high)
+            ON CONFLICT (direct_user_low, direct_user_high) DO NOTHING
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chats"))
+    int insertDirectIfAbsent(@Param("id") UUID id,
+                             @Param("createdAt") Instant createdAt,
+                             @Param("low") UUID low,
+                             @Param("high") UUID high);
+
+    @Modifying
+    @Query(value = "INSERT INTO chat_participants (chat_id, user_id) VALUES (:chatId, :userId)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_participants"))
+    void addParticipant(@Param("chatId") UUID chatId, @Param("userId") UUID userId);
 }
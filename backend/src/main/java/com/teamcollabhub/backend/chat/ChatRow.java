@@ -0,0 +1,16 @@
+package com.teamcollabhub.backend.chat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Scalar columns of a chat; participants are selected separately as {@link ChatParticipantRow}s.
+ */
+public record ChatRow(
+        UUID id,
+        String name,
+        ChatType type,
+        Instant createdAt,
+        String lastMessage,
+        Instant lastMessageTime
+) {}
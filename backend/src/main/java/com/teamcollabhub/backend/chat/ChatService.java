@@ -1,16 +1,28 @@
 package com.teamcollabhub.backend.chat;
 
+import com.teamcollabhub.backend.attachment.AttachmentRepository;
+import com.teamcollabhub.backend.attachment.AttachmentResponse;
+import com.teamcollabhub.backend.exception.BadRequestException;
 import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import com.teamcollabhub.backend.mention.MentionService;
+import com.teamcollabhub.backend.notification.NotificationEvent;
+import com.teamcollabhub.backend.notification.NotificationType;
+import com.teamcollabhub.backend.presence.PresenceService;
+import com.teamcollabhub.backend.reaction.MessageReactionRepository;
 import com.teamcollabhub.backend.user.User;
 import com.teamcollabhub.backend.user.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -18,35 +30,115 @@ public class ChatService {
 
     private final ChatRepository chatRepository;
     private final ChatMessageRepository messageRepository;
+    private final AttachmentRepository attachmentRepository;
     private final UserRepository userRepository;
+    private final PresenceService presenceService;
+    private final MessageReactionRepository reactionRepository;
+    private final MentionService mentionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ChatService(ChatRepository chatRepository,
                        ChatMessageRepository messageRepository,
-                       UserRepository userRepository) {
+                       AttachmentRepository attachmentRepository,
+                       UserRepository userRepository,
+                       PresenceService presenceService,
+                       MessageReactionRepository reactionRepository,
+                       MentionService mentionService,
+                       ApplicationEventPublisher eventPublisher) {
         this.chatRepository = chatRepository;
         this.messageRepository = messageRepository;
+        this.attachmentRepository = attachmentRepository;
         this.userRepository = userRepository;
+        this.presenceService = presenceService;
+        this.reactionRepository = reactionRepository;
+        this.mentionService = mentionService;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<Chat> findAll() {
-        return chatRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<ChatResponse> findAll() {
+        Map<UUID, Set<UUID>> participants = new HashMap<>();
+        chatRepository.findAllParticipants().forEach(row ->
+                participants.computeIfAbsent(row.chatId(), id -> new HashSet<>()).add(row.userId()));
+        return chatRepository.findAllRows().stream()
+                .map(row -> ChatMapper.toResponse(row, participants.getOrDefault(row.id(), Set.of())))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
+    public ChatResponse getResponse(UUID id) {
+        ChatRow row = chatRepository.findRowById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Chat not found"));
+        return ChatMapper.toResponse(row, new HashSet<>(chatRepository.findParticipantIds(id)));
+    }
+
+    @Transactional(readOnly = true)
     public Chat getById(UUID id) {
         return chatRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Chat not found"));
     }
 
-    public Chat create(ChatRequest request) {
+    @Transactional(readOnly = true)
+    public Set<UUID> getParticipantIds(UUID chatId) {
+        List<UUID> participantIds = chatRepository.findParticipantIds(chatId);
+        if (participantIds.isEmpty() && !chatRepository.existsById(chatId)) {
+            throw new ResourceNotFoundException("Chat not found");
+        }
+        return new HashSet<>(participantIds);
+    }
+
+    public ChatResponse create(ChatRequest request) {
+        ChatType type = parseType(request.type());
+        if (type == ChatType.PERSONAL && request.participants().size() == 2) {
+            var ids = request.participants().iterator();
+            return findOrCreateDirect(ids.next(), ids.next());
+        }
         Chat chat = new Chat();
         chat.setName(request.name());
-        chat.setType(parseType(request.type()));
+        chat.setType(type);
         chat.setParticipants(resolveParticipants(request.participants()));
-        return chatRepository.save(chat);
+        return ChatMapper.toResponse(chatRepository.save(chat));
     }
 
-    public List<ChatMessage> getMessages(UUID chatId) {
-        return messageRepository.findByChatIdOrderByTimestampAsc(chatId);
+    public ChatResponse findOrCreateDirect(UUID userId, UUID otherUserId) {
+        if (userId.equals(otherUserId)) {
+            throw new BadRequestException("Direct chat requires two different users");
+        }
+        boolean ordered = userId.compareTo(otherUserId) < 0;
+        UUID low = ordered ? userId : otherUserId;
+        UUID high = ordered ? otherUserId : userId;
+        Chat chat = chatRepository.findByDirectUserLowAndDirectUserHigh(low, high)
+                .orElseGet(() -> createDirect(low, high));
+        return ChatMapper.toResponse(chat);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessages(UUID chatId) {
+        List<ChatMessageRow> rows = messageRepository.findRowsByChatId(chatId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<AttachmentResponse>> attachments = attachmentRepository.findResponsesByChatId(chatId).stream()
+                .collect(Collectors.groupingBy(AttachmentResponse::messageId));
+        Map<UUID, Map<String, Long>> reactions = new HashMap<>();
+        messageRepository.findReactionCountsByChatId(chatId).forEach(row ->
+                reactions.computeIfAbsent(row.messageId(), id -> new HashMap<>()).put(row.emoji(), row.count()));
+        return rows.stream()
+                .map(row -> ChatMapper.toResponse(row,
+                        attachments.getOrDefault(row.id(), List.of()),
+                        reactions.getOrDefault(row.id(), Map.of())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getThread(UUID chatId, UUID messageId) {
+        List<ChatMessage> thread = messageRepository.findThread(chatId, messageId);
+        if (thread.isEmpty()) {
+            throw new ResourceNotFoundException("Message not found in chat");
+        }
+        return thread.stream()
+                .map(ChatMapper::toResponse)
+                .toList();
     }
 
     public ChatMessage createMessage(UUID chatId, ChatMessageRequest request) {
@@ -60,12 +152,24 @@ public class ChatService {
         if (request.replyTo() != null) {
             ChatMessage reply = messageRepository.findById(request.replyTo())
                     .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
+            if (!reply.getChat().getId().equals(chatId)) {
+                throw new ResourceNotFoundException("Message not found in chat");
+            }
             message.setReplyTo(reply);
+            message.setThreadRootId(reply.getThreadRootId() != null ? reply.getThreadRootId() : reply.getId());
         }
         ChatMessage saved = messageRepository.save(message);
+        if (saved.getThreadRootId() != null) {
+            messageRepository.recordReply(saved.getThreadRootId(), saved.getTimestamp());
+        }
         chat.setLastMessage(saved.getMessage());
         chat.setLastMessageTime(saved.getTimestamp());
         chatRepository.save(chat);
+        mentionService.recordMentions(saved);
+        if (chat.getType() == ChatType.PERSONAL) {
+            notifyDirectRecipients(chat, saved);
+        }
+        presenceService.stopTyping(chatId, user.getId());
         return saved;
     }
 
@@ -75,7 +179,44 @@ public class ChatService {
         if (!message.getChat().getId().equals(chatId)) {
             throw new ResourceNotFoundException("Message not found in chat");
         }
+        reactionRepository.deleteByMessageId(messageId);
+        mentionService.deleteForMessage(messageId);
         messageRepository.delete(message);
+        if (message.getThreadRootId() != null) {
+            messageRepository.flush();
+            messageRepository.removeReply(message.getThreadRootId(), messageId);
+        }
+    }
+
+    private void notifyDirectRecipients(Chat chat, ChatMessage message) {
+        UUID authorId = message.getUser().getId();
+        UUID otherId = authorId.equals(chat.getDirectUserLow()) ? chat.getDirectUserHigh() : chat.getDirectUserLow();
+        if (otherId == null) {
+            getParticipantIds(chat.getId()).stream()
+                    .filter(id -> !id.equals(authorId))
+                    .forEach(id -> publishDirectMessage(id, chat, message));
+        } else {
+            publishDirectMessage(otherId, chat, message);
+        }
+    }
+
+    private void publishDirectMessage(UUID recipientId, Chat chat, ChatMessage message) {
+        String text = message.getMessage();
+        String excerpt = text.length() > 120 ? text.substring(0, 120) : text;
+        eventPublisher.publishEvent(new NotificationEvent(recipientId, NotificationType.DIRECT_MESSAGE,
+                chat.getId(), excerpt));
+    }
+
+    private Chat createDirect(UUID low, UUID high) {
+        resolveUser(low);
+        resolveUser(high);
+        UUID id = UUID.randomUUID();
+        if (chatRepository.insertDirectIfAbsent(id, Instant.now(), low, high) == 1) {
+            chatRepository.addParticipant(id, low);
+            chatRepository.addParticipant(id, high);
+        }
+        return chatRepository.findByDirectUserLowAndDirectUserHigh(low, high)
+                .orElseThrow(() -> new ResourceNotFoundException("Chat not found"));
     }
 
     private ChatType parseType(String type) {
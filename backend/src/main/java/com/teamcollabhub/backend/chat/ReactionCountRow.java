@@ -0,0 +1,5 @@
+package com.teamcollabhub.backend.chat;
+
+import java.util.UUID;
+
+public record ReactionCountRow(UUID messageId, String emoji, long count) {}
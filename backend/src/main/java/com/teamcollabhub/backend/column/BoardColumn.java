@@ -1,8 +1,11 @@
 package com.teamcollabhub.backend.column;
 
+import com.teamcollabhub.backend.cache.CacheRegions;
 import com.teamcollabhub.backend.event.Event;
 import com.teamcollabhub.backend.task.Task;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +13,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "columns")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOARD_COLUMNS)
 public class BoardColumn {
 
     @Id
@@ -1,10 +1,42 @@
 package com.teamcollabhub.backend.column;
 
+import com.teamcollabhub.backend.cache.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, UUID> {
-    List<BoardColumn> findByEventIdOrderByOrderIndexAsc(UUID eventId);
+
+    String SELECT_RESPONSE = """
+            SELECT new com.teamcollabhub.backend.column.ColumnResponse(c.id, c.title, c.event.id, c.orderIndex, c.color)
+            FROM BoardColumn c
+            """;
+
+    @Query(SELECT_RESPONSE)
+    List<ColumnResponse> findAllResponses();
+
+    @Query(SELECT_RESPONSE + """
+            WHERE c.event.restricted = false
+               OR EXISTS (SELECT 1 FROM EventMember m WHERE m.eventId = c.event.id AND m.userId = :userId)
+            """)
+    List<ColumnResponse> findResponsesVisibleTo(UUID userId);
+
+    /**
+     * Served from the query cache; any write to the columns table through Hibernate invalidates it.
+     */
+    @Query(SELECT_RESPONSE + "WHERE c.event.id = :eventId ORDER BY c.orderIndex")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.BOARD_COLUMNS_BY_EVENT)
+    })
+    List<ColumnResponse> findResponsesByEventId(UUID eventId);
+
+    @Query(SELECT_RESPONSE + "WHERE c.id = :id")
+    Optional<ColumnResponse> findResponseById(UUID id);
 }
@@ -1,6 +1,7 @@
 package com.teamcollabhub.backend.column;
 
 import com.teamcollabhub.backend.event.Event;
+import com.teamcollabhub.backend.event.EventAccess;
 import com.teamcollabhub.backend.event.EventService;
 import com.teamcollabhub.backend.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,22 +16,39 @@ public class BoardColumnService {
 
     private final BoardColumnRepository columnRepository;
     private final EventService eventService;
+    private final EventAccess eventAccess;
 
-    public BoardColumnService(BoardColumnRepository columnRepository, EventService eventService) {
+    public BoardColumnService(BoardColumnRepository columnRepository,
+                              EventService eventService,
+                              EventAccess eventAccess) {
         this.columnRepository = columnRepository;
         this.eventService = eventService;
+        this.eventAccess = eventAccess;
     }
 
-    public List<BoardColumn> findAll() {
-        return columnRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<ColumnResponse> findAll() {
+        UUID userId = eventAccess.restrictedUserId();
+        return userId == null ? columnRepository.findAllResponses() : columnRepository.findResponsesVisibleTo(userId);
     }
 
-    public List<BoardColumn> findByEvent(UUID eventId) {
-        return columnRepository.findByEventIdOrderByOrderIndexAsc(eventId);
+    @Transactional(readOnly = true)
+    public List<ColumnResponse> findByEvent(UUID eventId) {
+        eventAccess.requireAccess(eventId);
+        return columnRepository.findResponsesByEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
+    public ColumnResponse getResponse(UUID id) {
+        return columnRepository.findResponseById(id)
+                .filter(column -> eventAccess.canAccess(column.eventId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
+    }
+
+    @Transactional(readOnly = true)
     public BoardColumn getById(UUID id) {
         return columnRepository.findById(id)
+                .filter(column -> eventAccess.canAccess(column.getEvent().getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
     }
 
@@ -57,9 +75,6 @@ public class BoardColumnService {
     }
 
     public void delete(UUID id) {
-        if (!columnRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Column not found");
-        }
-        columnRepository.deleteById(id);
+        columnRepository.delete(getById(id));
     }
 }
@@ -18,16 +18,12 @@ public class ColumnController {
 
     @GetMapping("/columns")
     public List<ColumnResponse> getColumns() {
-        return columnService.findAll().stream()
-                .map(ColumnMapper::toResponse)
-                .toList();
+        return columnService.findAll();
     }
 
     @GetMapping("/events/{eventId}/columns")
     public List<ColumnResponse> getColumnsByEvent(@PathVariable UUID eventId) {
-        return columnService.findByEvent(eventId).stream()
-                .map(ColumnMapper::toResponse)
-                .toList();
+        return columnService.findByEvent(eventId);
     }
 
     @PostMapping("/columns")
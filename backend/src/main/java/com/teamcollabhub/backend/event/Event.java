@@ -1,8 +1,11 @@
 package com.teamcollabhub.backend.event;
 
+import com.teamcollabhub.backend.cache.CacheRegions;
 import com.teamcollabhub.backend.column.BoardColumn;
 import com.teamcollabhub.backend.task.Task;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -11,6 +14,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENTS)
 public class Event {
 
     @Id
@@ -29,6 +34,9 @@ public class Event {
     @Column(name = "sort_order")
     private int orderIndex;
 
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean restricted;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardColumn> columns = new ArrayList<>();
 
@@ -82,6 +90,14 @@ public class Event {
         this.orderIndex = orderIndex;
     }
 
+    public boolean isRestricted() {
+        return restricted;
+    }
+
+    public void setRestricted(boolean restricted) {
+        this.restricted = restricted;
+    }
+
     public List<BoardColumn> getColumns() {
         return columns;
     }
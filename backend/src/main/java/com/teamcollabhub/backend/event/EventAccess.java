@@ -0,0 +1,247 @@
+package com.teamcollabhub.backend.event;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import com.teamcollabhub.backend.replica.ReplicaRouter;
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * In-memory authorization for events and everything that hangs off them. Every event gets a
+ * process-local ordinal, and each user's memberships are cached as a {@link BitSet} over those
+ * ordinals, so an access check is a hash lookup plus a bit test. Events that are not restricted
+ * are tracked in a shared bitset and visible to everyone. Admins and calls without an
+ * authenticated user (scheduled jobs) are not restricted. Changes made on other nodes are picked
+ * up when cached memberships expire and on the periodic refresh of the open set. Loads read the
+ * primary: they join the caller's transaction when it already uses the primary, and only a caller
+ * routed to a replica gets a separate primary transaction, so a cache miss never holds two
+ * connections from the same pool.
+ */
+@Component
+public class EventAccess implements MeterBinder {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final EventRepository eventRepository;
+    private final EventMemberRepository memberRepository;
+    private final ObjectProvider<ReplicaRouter> replicaRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate primaryTransactionTemplate;
+    private final ConcurrentHashMap<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<UUID> eventsByOrdinal = new CopyOnWriteArrayList<>();
+    private final LoadingCache<UUID, BitSet> memberships;
+    private volatile BitSet openEvents = new BitSet();
+
+    public EventAccess(EventRepository eventRepository,
+                       EventMemberRepository memberRepository,
+                       ObjectProvider<ReplicaRouter> replicaRouter,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.events.membership-cache.max-size:50000}") long maxSize,
+                       @Value("${app.events.membership-cache.ttl-ms:60000}") long ttlMs) {
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.replicaRouter = replicaRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build(this::loadMemberships);
+    }
+
+    public boolean canAccess(UUID eventId) {
+        UUID userId = currentRestrictedUserId();
+        return userId == null || canAccess(userId, eventId);
+    }
+
+    public boolean canAccess(UUID userId, UUID eventId) {
+        Integer ordinal = ordinals.get(eventId);
+        if (ordinal == null) {
+            return discover(userId, eventId);
+        }
+        return openEvents.get(ordinal) || memberships.get(userId).get(ordinal);
+    }
+
+    public void requireAccess(UUID eventId) {
+        if (!canAccess(eventId)) {
+            throw new ResourceNotFoundException("Event not found");
+        }
+    }
+
+    public void requireOwner(UUID eventId) {
+        UUID userId = currentRestrictedUserId();
+        if (userId == null) {
+            return;
+        }
+        requireAccess(eventId);
+        boolean owner = memberRepository.findByEventIdAndUserId(eventId, userId)
+                .map(member -> member.getRole() == EventMemberRole.OWNER)
+                .orElse(false);
+        if (!owner) {
+            throw new AccessDeniedException("Only event owners can do this");
+        }
+    }
+
+    /**
+     * The user whose memberships restrict list queries, or {@code null} when no filter applies.
+     * Lists filter in the query (open events plus the user's memberships) rather than passing the
+     * visible event ids, which would grow with the number of events.
+     */
+    public UUID restrictedUserId() {
+        return currentRestrictedUserId();
+    }
+
+    public UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+
+    public void eventSaved(UUID eventId, boolean restricted) {
+        afterCommit(() -> setOpen(ordinalOf(eventId), !restricted));
+    }
+
+    public void eventDeleted(UUID eventId, Collection<UUID> memberIds) {
+        eventSaved(eventId, true);
+        membershipChanged(memberIds);
+    }
+
+    public void membershipChanged(Collection<UUID> userIds) {
+        afterCommit(() -> memberships.invalidateAll(userIds));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, memberships, "event-memberships");
+        Gauge.builder("events.access.known", eventsByOrdinal, List::size)
+                .description("Events with an ordinal in the membership bitsets")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.events.open-refresh-interval-ms:60000}",
+            initialDelayString = "${app.events.open-refresh-interval-ms:60000}")
+    public void load() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventRepository.findAllIds().forEach(this::ordinalOf);
+            BitSet open = new BitSet();
+            eventRepository.findOpenIds().forEach(eventId -> open.set(ordinalOf(eventId)));
+            synchronized (this) {
+                openEvents = open;
+            }
+        });
+    }
+
+    private UUID currentRestrictedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return null;
+        }
+        for (var authority : authentication.getAuthorities()) {
+            if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+                return null;
+            }
+        }
+        return user.id();
+    }
+
+    private boolean discover(UUID userId, UUID eventId) {
+        Boolean restricted = readPrimary(() -> eventRepository.findById(eventId)
+                .map(Event::isRestricted)
+                .orElse(null));
+        if (restricted == null) {
+            return false;
+        }
+        int ordinal = ordinalOf(eventId);
+        setOpen(ordinal, !restricted);
+        if (!restricted) {
+            return true;
+        }
+        memberships.invalidate(userId);
+        return memberships.get(userId).get(ordinal);
+    }
+
+    private void setOpen(int ordinal, boolean open) {
+        if (openEvents.get(ordinal) == open) {
+            return;
+        }
+        synchronized (this) {
+            BitSet updated = (BitSet) openEvents.clone();
+            updated.set(ordinal, open);
+            openEvents = updated;
+        }
+    }
+
+    private int ordinalOf(UUID eventId) {
+        Integer ordinal = ordinals.get(eventId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (ordinals) {
+            return ordinals.computeIfAbsent(eventId, id -> {
+                eventsByOrdinal.add(id);
+                return eventsByOrdinal.size() - 1;
+            });
+        }
+    }
+
+    private BitSet loadMemberships(UUID userId) {
+        BitSet bits = new BitSet();
+        List<UUID> eventIds = readPrimary(() -> memberRepository.findEventIdsByUserId(userId));
+        eventIds.forEach(eventId -> bits.set(ordinalOf(eventId)));
+        return bits;
+    }
+
+    private <T> T readPrimary(Supplier<T> query) {
+        ReplicaRouter router = replicaRouter.getIfAvailable();
+        boolean onReplica = router != null
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && router.routeToReplica();
+        return (onReplica ? primaryTransactionTemplate : transactionTemplate).execute(status -> query.get());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -18,14 +18,12 @@ public class EventController {
 
     @GetMapping
     public List<EventResponse> getEvents() {
-        return eventService.findAll().stream()
-                .map(EventMapper::toResponse)
-                .toList();
+        return eventService.findAll();
     }
 
     @GetMapping("/{id}")
     public EventResponse getEvent(@PathVariable UUID id) {
-        return EventMapper.toResponse(eventService.getById(id));
+        return eventService.getResponse(id);
     }
 
     @PostMapping
@@ -43,4 +41,21 @@ public class EventController {
     public void deleteEvent(@PathVariable UUID id) {
         eventService.delete(id);
     }
+
+    @GetMapping("/{id}/members")
+    public List<EventMemberResponse> getMembers(@PathVariable UUID id) {
+        return eventService.getMembers(id).stream()
+                .map(EventMapper::toResponse)
+                .toList();
+    }
+
+    @PostMapping("/{id}/members")
+    public EventMemberResponse addMember(@PathVariable UUID id, @Valid @RequestBody EventMemberRequest request) {
+        return EventMapper.toResponse(eventService.addMember(id, request));
+    }
+
+    @DeleteMapping("/{id}/members/{userId}")
+    public void removeMember(@PathVariable UUID id, @PathVariable UUID userId) {
+        eventService.removeMember(id, userId);
+    }
 }
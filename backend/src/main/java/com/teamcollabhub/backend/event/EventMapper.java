@@ -11,7 +11,8 @@ public final class EventMapper {
                 event.getTitle(),
                 event.getDescription(),
                 event.getCreatedAt(),
-                event.getOrderIndex()
+                event.getOrderIndex(),
+                event.isRestricted()
         );
     }
 
@@ -20,6 +21,7 @@ public final class EventMapper {
         event.setTitle(request.title());
         event.setDescription(request.description());
         event.setOrderIndex(request.order());
+        event.setRestricted(request.restricted() == null || request.restricted());
         return event;
     }
 
@@ -27,5 +29,16 @@ public final class EventMapper {
         event.setTitle(request.title());
         event.setDescription(request.description());
         event.setOrderIndex(request.order());
+        if (request.restricted() != null) {
+            event.setRestricted(request.restricted());
+        }
+    }
+
+    public static EventMemberResponse toResponse(EventMember member) {
+        return new EventMemberResponse(
+                member.getUserId(),
+                member.getRole().name().toLowerCase(),
+                member.getCreatedAt()
+        );
     }
 }
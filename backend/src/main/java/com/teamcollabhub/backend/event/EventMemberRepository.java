@@ -0,0 +1,31 @@
+package com.teamcollabhub.backend.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EventMemberRepository extends JpaRepository<EventMember, UUID> {
+
+    List<EventMember> findByEventIdOrderByCreatedAtAsc(UUID eventId);
+
+    Optional<EventMember> findByEventIdAndUserId(UUID eventId, UUID userId);
+
+    @Query("SELECT m.eventId FROM EventMember m WHERE m.userId = :userId")
+    List<UUID> findEventIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT m.userId FROM EventMember m WHERE m.eventId = :eventId")
+    List<UUID> findUserIdsByEventId(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("DELETE FROM EventMember m WHERE m.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("DELETE FROM EventMember m WHERE m.eventId = :eventId AND m.userId = :userId")
+    int deleteMember(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+}
@@ -0,0 +1,10 @@
+package com.teamcollabhub.backend.event;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record EventMemberRequest(
+        @NotNull UUID userId,
+        String role
+) {}
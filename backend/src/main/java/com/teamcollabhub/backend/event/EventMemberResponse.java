@@ -0,0 +1,10 @@
+package com.teamcollabhub.backend.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EventMemberResponse(
+        UUID userId,
+        String role,
+        Instant createdAt
+) {}
@@ -0,0 +1,6 @@
+package com.teamcollabhub.backend.event;
+
+public enum EventMemberRole {
+    OWNER,
+    MEMBER
+}
@@ -1,8 +1,38 @@
 package com.teamcollabhub.backend.event;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
+
+    String SELECT_RESPONSE = """
+            SELECT new com.teamcollabhub.backend.event.EventResponse(e.id, e.title, e.description, e.createdAt,
+                   e.orderIndex, e.restricted)
+            FROM Event e
+            """;
+
+    @Query(SELECT_RESPONSE)
+    List<EventResponse> findAllResponses();
+
+    /**
+     * Events that are open or that the user is a member of.
+     */
+    @Query(SELECT_RESPONSE + """
+            WHERE e.restricted = false
+               OR EXISTS (SELECT 1 FROM EventMember m WHERE m.eventId = e.id AND m.userId = :userId)
+            """)
+    List<EventResponse> findResponsesVisibleTo(UUID userId);
+
+    @Query(SELECT_RESPONSE + "WHERE e.id = :id")
+    Optional<EventResponse> findResponseById(UUID id);
+
+    @Query("SELECT e.id FROM Event e")
+    List<UUID> findAllIds();
+
+    @Query("SELECT e.id FROM Event e WHERE e.restricted = false")
+    List<UUID> findOpenIds();
 }
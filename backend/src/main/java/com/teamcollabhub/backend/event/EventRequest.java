@@ -5,5 +5,6 @@ import jakarta.validation.constraints.NotBlank;
 public record EventRequest(
         @NotBlank String title,
         String description,
-        int order
+        int order,
+        Boolean restricted
 ) {}
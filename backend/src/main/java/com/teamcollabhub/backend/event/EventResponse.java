@@ -8,5 +8,6 @@ public record EventResponse(
         String title,
         String description,
         Instant createdAt,
-        int order
+        int order,
+        boolean restricted
 ) {}
@@ -1,10 +1,13 @@
 package com.teamcollabhub.backend.event;
 
+import com.teamcollabhub.backend.exception.BadRequestException;
 import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import com.teamcollabhub.backend.user.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
@@ -12,22 +15,53 @@ import java.util.UUID;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final EventMemberRepository memberRepository;
+    private final UserRepository userRepository;
+    private final EventAccess eventAccess;
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        EventMemberRepository memberRepository,
+                        UserRepository userRepository,
+                        EventAccess eventAccess) {
         this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.userRepository = userRepository;
+        this.eventAccess = eventAccess;
     }
 
-    public List<Event> findAll() {
-        return eventRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<EventResponse> findAll() {
+        UUID userId = eventAccess.restrictedUserId();
+        return userId == null ? eventRepository.findAllResponses() : eventRepository.findResponsesVisibleTo(userId);
     }
 
+    @Transactional(readOnly = true)
+    public EventResponse getResponse(UUID id) {
+        eventAccess.requireAccess(id);
+        return eventRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+    }
+
+    @Transactional(readOnly = true)
     public Event getById(UUID id) {
+        eventAccess.requireAccess(id);
         return eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
     }
 
     public Event create(Event event) {
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        UUID creatorId = eventAccess.currentUserId();
+        if (creatorId != null) {
+            EventMember owner = new EventMember();
+            owner.setEventId(saved.getId());
+            owner.setUserId(creatorId);
+            owner.setRole(EventMemberRole.OWNER);
+            memberRepository.save(owner);
+            eventAccess.membershipChanged(List.of(creatorId));
+        }
+        eventAccess.eventSaved(saved.getId(), saved.isRestricted());
+        return saved;
     }
 
     public Event update(UUID id, EventRequest request) {
@@ -35,6 +69,11 @@ public class EventService {
         event.setTitle(request.title());
         event.setDescription(request.description());
         event.setOrderIndex(request.order());
+        if (request.restricted() != null && request.restricted() != event.isRestricted()) {
+            eventAccess.requireOwner(id);
+            event.setRestricted(request.restricted());
+            eventAccess.eventSaved(id, request.restricted());
+        }
         return eventRepository.save(event);
     }
 
@@ -42,6 +81,54 @@ public class EventService {
         if (!eventRepository.existsById(id)) {
             throw new ResourceNotFoundException("Event not found");
         }
+        eventAccess.requireOwner(id);
+        List<UUID> memberIds = memberRepository.findUserIdsByEventId(id);
+        memberRepository.deleteByEventId(id);
         eventRepository.deleteById(id);
+        eventAccess.eventDeleted(id, memberIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventMember> getMembers(UUID eventId) {
+        getById(eventId);
+        return memberRepository.findByEventIdOrderByCreatedAtAsc(eventId);
+    }
+
+    public EventMember addMember(UUID eventId, EventMemberRequest request) {
+        getById(eventId);
+        eventAccess.requireOwner(eventId);
+        if (!userRepository.existsById(request.userId())) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        EventMember member = memberRepository.findByEventIdAndUserId(eventId, request.userId())
+                .orElseGet(EventMember::new);
+        member.setEventId(eventId);
+        member.setUserId(request.userId());
+        member.setRole(parseRole(request.role()));
+        EventMember saved = memberRepository.save(member);
+        eventAccess.membershipChanged(List.of(request.userId()));
+        return saved;
+    }
+
+    public void removeMember(UUID eventId, UUID userId) {
+        getById(eventId);
+        if (!userId.equals(eventAccess.currentUserId())) {
+            eventAccess.requireOwner(eventId);
+        }
+        if (memberRepository.deleteMember(eventId, userId) == 0) {
+            throw new ResourceNotFoundException("Member not found");
+        }
+        eventAccess.membershipChanged(List.of(userId));
+    }
+
+    private EventMemberRole parseRole(String role) {
+        if (role == null) {
+            return EventMemberRole.MEMBER;
+        }
+        try {
+            return EventMemberRole.valueOf(role.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown member role: " + role);
+        }
     }
 }
@@ -0,0 +1,140 @@
+package com.teamcollabhub.backend.mention;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Immutable, case-insensitive Aho-Corasick automaton. Transitions are stored per state as sorted
+ * parallel arrays, so a scan is one pass over the text with a binary search per character.
+ */
+final class AhoCorasick<V> {
+
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] outputLink;
+    private final int[] depth;
+    private final Object[] values;
+
+    private AhoCorasick(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] outputLink,
+                        int[] depth, Object[] values) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputLink = outputLink;
+        this.depth = depth;
+        this.values = values;
+    }
+
+    static <V> AhoCorasick<V> build(Map<String, V> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Object> stateValues = new ArrayList<>();
+        List<Integer> stateDepth = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        stateValues.add(null);
+        stateDepth.add(0);
+        for (Map.Entry<String, V> pattern : patterns.entrySet()) {
+            String key = pattern.getKey();
+            if (key.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                char c = Character.toLowerCase(key.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    stateValues.add(null);
+                    stateDepth.add(stateDepth.get(state) + 1);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            stateValues.set(state, pattern.getValue());
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int candidate = fail[state];
+                while (candidate != 0 && next(edgeChars, edgeTargets, candidate, c) < 0) {
+                    candidate = fail[candidate];
+                }
+                int target = next(edgeChars, edgeTargets, candidate, c);
+                fail[child] = target >= 0 ? target : 0;
+                outputLink[child] = stateValues.get(fail[child]) != null ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        int[] depth = stateDepth.stream().mapToInt(Integer::intValue).toArray();
+        return new AhoCorasick<>(edgeChars, edgeTargets, fail, outputLink, depth, stateValues.toArray());
+    }
+
+    void scan(CharSequence text, MatchHandler<V> handler) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int target;
+            while ((target = next(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(target, 0);
+            int output = values[state] != null ? state : outputLink[state];
+            while (output > 0) {
+                handler.onMatch(i + 1 - depth[output], i + 1, value(output));
+                output = outputLink[output];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int state) {
+        return (V) values[state];
+    }
+
+    private static int next(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    static <V> AhoCorasick<V> empty() {
+        return build(new HashMap<>());
+    }
+
+    @FunctionalInterface
+    interface MatchHandler<V> {
+        void onMatch(int start, int end, V value);
+    }
+}
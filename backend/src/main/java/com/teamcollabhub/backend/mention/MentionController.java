@@ -0,0 +1,46 @@
+package com.teamcollabhub.backend.mention;
+
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/mentions")
+public class MentionController {
+
+    private final MentionService mentionService;
+
+    public MentionController(MentionService mentionService) {
+        this.mentionService = mentionService;
+    }
+
+    @GetMapping
+    public List<MentionResponse> getMentions(@AuthenticationPrincipal AuthenticatedUser user,
+                                             @RequestParam(defaultValue = "false") boolean unreadOnly,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        return mentionService.findForUser(user.id(), unreadOnly, limit).stream()
+                .map(MentionMapper::toResponse)
+                .toList();
+    }
+
+    @GetMapping("/unread-count")
+    public Map<String, Long> getUnreadCount(@AuthenticationPrincipal AuthenticatedUser user) {
+        return Map.of("count", mentionService.countUnread(user.id()));
+    }
+
+    @PostMapping("/{id}/read")
+    public MentionResponse markRead(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser user) {
+        return MentionMapper.toResponse(mentionService.markRead(user.id(), id));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal AuthenticatedUser user) {
+        mentionService.markAllRead(user.id());
+        return ResponseEntity.noContent().build();
+    }
+}
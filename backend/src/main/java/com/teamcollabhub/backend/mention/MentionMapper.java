@@ -0,0 +1,19 @@
+package com.teamcollabhub.backend.mention;
+
+public final class MentionMapper {
+
+    private MentionMapper() {
+    }
+
+    public static MentionResponse toResponse(Mention mention) {
+        return new MentionResponse(
+                mention.getId(),
+                mention.getMessageId(),
+                mention.getChatId(),
+                mention.getAuthorId(),
+                mention.getExcerpt(),
+                mention.isRead(),
+                mention.getCreatedAt()
+        );
+    }
+}
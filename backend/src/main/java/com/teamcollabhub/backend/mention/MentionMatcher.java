@@ -0,0 +1,116 @@
+package com.teamcollabhub.backend.mention;
+
+import com.teamcollabhub.backend.user.UserChangedEvent;
+import com.teamcollabhub.backend.user.UserDirectoryReloadedEvent;
+import com.teamcollabhub.backend.user.UserRow;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Resolves {@code @Name} and {@code @email} mentions against the user directory. The pattern
+ * dictionary is kept up to date per user as accounts change; the automaton built from it is
+ * republished at most once per rebuild interval, however many users changed. Accounts changed on
+ * other nodes are picked up from the user directory's periodic reload, which marks the dictionary
+ * dirty when it differs.
+ */
+@Component
+public class MentionMatcher {
+
+    private final ConcurrentHashMap<UUID, List<String>> patternsByUser = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile AhoCorasick<Set<UUID>> automaton = AhoCorasick.empty();
+
+    public Set<UUID> findMentionedUsers(String text) {
+        if (text == null || text.indexOf('@') < 0) {
+            return Set.of();
+        }
+        Map<Integer, Match> longestByStart = new HashMap<>();
+        automaton.scan(text, (start, end, users) -> {
+            if (isBoundary(text, start - 1) && isBoundary(text, end)) {
+                longestByStart.merge(start, new Match(end, users), (a, b) -> a.end() >= b.end() ? a : b);
+            }
+        });
+        Set<UUID> mentioned = new HashSet<>();
+        longestByStart.values().forEach(match -> mentioned.addAll(match.users()));
+        return mentioned;
+    }
+
+    @EventListener
+    public void onDirectoryReloaded(UserDirectoryReloadedEvent event) {
+        if (syncDirectory(event.users())) {
+            dirty.set(true);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        List<String> updated = patterns(event.name(), event.email());
+        if (!updated.equals(patternsByUser.put(event.userId(), updated))) {
+            dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mentions.rebuild-interval-ms:1000}")
+    public void rebuildIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    private boolean syncDirectory(List<UserRow> users) {
+        boolean changed = false;
+        Set<UUID> removed = new HashSet<>(patternsByUser.keySet());
+        for (UserRow user : users) {
+            List<String> patterns = patterns(user.name(), user.email());
+            changed |= !patterns.equals(patternsByUser.put(user.id(), patterns));
+            removed.remove(user.id());
+        }
+        for (UUID userId : removed) {
+            changed |= patternsByUser.remove(userId) != null;
+        }
+        return changed;
+    }
+
+    private void rebuild() {
+        Map<String, Set<UUID>> dictionary = new HashMap<>();
+        patternsByUser.forEach((userId, patterns) -> {
+            for (String pattern : patterns) {
+                dictionary.computeIfAbsent(pattern, key -> new HashSet<>()).add(userId);
+            }
+        });
+        automaton = AhoCorasick.build(dictionary);
+    }
+
+    private static List<String> patterns(String name, String email) {
+        Set<String> patterns = new HashSet<>();
+        if (name != null && !name.isBlank()) {
+            patterns.add("@" + name.strip().toLowerCase(Locale.ROOT));
+        }
+        if (email != null && !email.isBlank()) {
+            patterns.add("@" + email.strip().toLowerCase(Locale.ROOT));
+        }
+        return patterns.stream().sorted().toList();
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(index);
+        return !Character.isLetterOrDigit(c) && c != '_' && c != '@';
+    }
+
+    private record Match(int end, Set<UUID> users) {}
+}
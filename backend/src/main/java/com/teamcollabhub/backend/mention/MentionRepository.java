@@ -0,0 +1,26 @@
+package com.teamcollabhub.backend.mention;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MentionRepository extends JpaRepository<Mention, UUID> {
+    List<Mention> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    List<Mention> findByUserIdAndReadFalseOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    long countByUserIdAndReadFalse(UUID userId);
+
+    @Modifying
+    @Query("UPDATE Mention m SET m.read = true WHERE m.userId = :userId AND m.read = false")
+    int markAllRead(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM Mention m WHERE m.messageId = :messageId")
+    void deleteByMessageId(@Param("messageId") UUID messageId);
+}
@@ -0,0 +1,14 @@
+package com.teamcollabhub.backend.mention;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record MentionResponse(
+        UUID id,
+        UUID messageId,
+        UUID chatId,
+        UUID authorId,
+        String excerpt,
+        boolean read,
+        Instant createdAt
+) {}
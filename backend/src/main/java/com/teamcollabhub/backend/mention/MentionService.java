@@ -0,0 +1,91 @@
+package com.teamcollabhub.backend.mention;
+
+import com.teamcollabhub.backend.chat.ChatMessage;
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import com.teamcollabhub.backend.notification.NotificationEvent;
+import com.teamcollabhub.backend.notification.NotificationType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class MentionService {
+
+    private static final int EXCERPT_LENGTH = 200;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final MentionRepository mentionRepository;
+    private final MentionMatcher mentionMatcher;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MentionService(MentionRepository mentionRepository,
+                          MentionMatcher mentionMatcher,
+                          ApplicationEventPublisher eventPublisher) {
+        this.mentionRepository = mentionRepository;
+        this.mentionMatcher = mentionMatcher;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<Mention> recordMentions(ChatMessage message) {
+        Set<UUID> mentioned = mentionMatcher.findMentionedUsers(message.getMessage());
+        if (mentioned.isEmpty()) {
+            return List.of();
+        }
+        UUID authorId = message.getUser().getId();
+        String text = message.getMessage();
+        String excerpt = text.length() > EXCERPT_LENGTH ? text.substring(0, EXCERPT_LENGTH) : text;
+        List<Mention> mentions = new ArrayList<>();
+        for (UUID userId : mentioned) {
+            if (userId.equals(authorId)) {
+                continue;
+            }
+            Mention mention = new Mention();
+            mention.setUserId(userId);
+            mention.setMessageId(message.getId());
+            mention.setChatId(message.getChat().getId());
+            mention.setAuthorId(authorId);
+            mention.setExcerpt(excerpt);
+            mention.setCreatedAt(message.getTimestamp());
+            mentions.add(mention);
+            eventPublisher.publishEvent(new NotificationEvent(userId, NotificationType.MENTION,
+                    message.getChat().getId(), excerpt));
+        }
+        return mentionRepository.saveAll(mentions);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Mention> findForUser(UUID userId, boolean unreadOnly, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return unreadOnly
+                ? mentionRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId, page)
+                : mentionRepository.findByUserIdOrderByCreatedAtDesc(userId, page);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(UUID userId) {
+        return mentionRepository.countByUserIdAndReadFalse(userId);
+    }
+
+    public Mention markRead(UUID userId, UUID mentionId) {
+        Mention mention = mentionRepository.findById(mentionId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Mention not found"));
+        mention.setRead(true);
+        return mentionRepository.save(mention);
+    }
+
+    public int markAllRead(UUID userId) {
+        return mentionRepository.markAllRead(userId);
+    }
+
+    public void deleteForMessage(UUID messageId) {
+        mentionRepository.deleteByMessageId(messageId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamcollabhub.backend.notification;
+
+import java.util.UUID;
+
+/**
+ * A notification that this node has claimed for the email digest.
+ */
+public interface DigestClaim {
+    UUID getId();
+
+    UUID getUserId();
+
+    String getTitle();
+
+    int getCount();
+}
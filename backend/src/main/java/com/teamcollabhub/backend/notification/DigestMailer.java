@@ -0,0 +1,113 @@
+package com.teamcollabhub.backend.notification;
+
+import com.teamcollabhub.backend.user.User;
+import com.teamcollabhub.backend.user.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class DigestMailer {
+
+    private static final Logger log = LoggerFactory.getLogger(DigestMailer.class);
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final EmailSender emailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public DigestMailer(NotificationRepository notificationRepository,
+                        UserRepository userRepository,
+                        EmailSender emailSender,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.notifications.digest.enabled:false}") boolean enabled,
+                        @Value("${app.notifications.digest.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.emailSender = emailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.interval-ms:3600000}",
+            initialDelayString = "${app.notifications.digest.interval-ms:3600000}")
+    public void sendDigests() {
+        if (!enabled) {
+            return;
+        }
+        boolean more;
+        do {
+            more = sendBatch();
+        } while (more);
+    }
+
+    /**
+     * Claims a batch (marking it emailed) and commits before any mail goes out, so no connection is
+     * held while the mail server responds and no other node sends the same notifications. Digests
+     * that fail to send are released again for the next run.
+     */
+    private boolean sendBatch() {
+        // the column keeps microseconds, and the release below matches on the exact value
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Batch batch = transactionTemplate.execute(status -> {
+            List<DigestClaim> claimed = notificationRepository.claimForDigest(now, batchSize);
+            Map<UUID, String> emails = claimed.isEmpty() ? Map.of() : userRepository.findAllById(
+                            claimed.stream().map(DigestClaim::getUserId).collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(User::getId, User::getEmail));
+            return new Batch(claimed, emails);
+        });
+        if (batch.claimed().isEmpty()) {
+            return false;
+        }
+        Map<UUID, List<DigestClaim>> byUser = batch.claimed().stream()
+                .collect(Collectors.groupingBy(DigestClaim::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        boolean progressed = false;
+        List<UUID> failed = new ArrayList<>();
+        for (Map.Entry<UUID, List<DigestClaim>> entry : byUser.entrySet()) {
+            String email = batch.emails().get(entry.getKey());
+            if (email != null) {
+                try {
+                    emailSender.send(digest(email, entry.getValue()));
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to send notification digest to {}", email, ex);
+                    entry.getValue().forEach(notification -> failed.add(notification.getId()));
+                    continue;
+                }
+            }
+            progressed = true;
+        }
+        if (!failed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.releaseDigestClaim(failed, now));
+        }
+        return progressed && batch.claimed().size() == batchSize;
+    }
+
+    private EmailSender.EmailMessage digest(String email, List<DigestClaim> notifications) {
+        int total = notifications.stream().mapToInt(DigestClaim::getCount).sum();
+        String body = notifications.stream()
+                .map(notification -> "- " + notification.getTitle())
+                .collect(Collectors.joining("\n"));
+        return new EmailSender.EmailMessage(email,
+                "TeamCollab Hub: " + total + (total == 1 ? " new notification" : " new notifications"),
+                body);
+    }
+
+    private record Batch(List<DigestClaim> claimed, Map<UUID, String> emails) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.teamcollabhub.backend.notification;
+
+public interface EmailSender {
+
+    void send(EmailMessage message);
+
+    record EmailMessage(String to, String subject, String body) {}
+}
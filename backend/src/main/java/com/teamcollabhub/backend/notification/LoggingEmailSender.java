@@ -0,0 +1,17 @@
+package com.teamcollabhub.backend.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stand-in used when no real mail transport is configured: digests are written to the log.
+ */
+public class LoggingEmailSender implements EmailSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingEmailSender.class);
+
+    @Override
+    public void send(EmailMessage message) {
+        log.info("Email to {}: {}\n{}", message.to(), message.subject(), message.body());
+    }
+}
@@ -0,0 +1,15 @@
+package com.teamcollabhub.backend.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EmailSender.class)
+    public EmailSender emailSender() {
+        return new LoggingEmailSender();
+    }
+}
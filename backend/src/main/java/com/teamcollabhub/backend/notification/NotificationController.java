@@ -0,0 +1,55 @@
+package com.teamcollabhub.backend.notification;
+
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final NotificationStreams notificationStreams;
+
+    public NotificationController(NotificationService notificationService, NotificationStreams notificationStreams) {
+        this.notificationService = notificationService;
+        this.notificationStreams = notificationStreams;
+    }
+
+    @GetMapping
+    public List<NotificationResponse> getNotifications(@AuthenticationPrincipal AuthenticatedUser user,
+                                                       @RequestParam(defaultValue = "false") boolean unreadOnly,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        return notificationService.findForUser(user.id(), unreadOnly, limit).stream()
+                .map(NotificationMapper::toResponse)
+                .toList();
+    }
+
+    @GetMapping("/unread-count")
+    public Map<String, Long> getUnreadCount(@AuthenticationPrincipal AuthenticatedUser user) {
+        return Map.of("count", notificationService.countUnread(user.id()));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser user) {
+        return notificationStreams.subscribe(user.id());
+    }
+
+    @PostMapping("/{id}/read")
+    public NotificationResponse markRead(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser user) {
+        return NotificationMapper.toResponse(notificationService.markRead(user.id(), id));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal AuthenticatedUser user) {
+        notificationService.markAllRead(user.id());
+        return ResponseEntity.noContent().build();
+    }
+}
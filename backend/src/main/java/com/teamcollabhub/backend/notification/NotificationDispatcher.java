@@ -0,0 +1,157 @@
+package com.teamcollabhub.backend.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects notification events off the request path and stores them in batches. Events for the
+ * same recipient and type are folded into one unread notification ("5 tasks assigned to you")
+ * while it stays inside the coalescing window.
+ */
+@Component
+public class NotificationDispatcher implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationStreams streams;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int batchSize;
+    private final Duration coalesceWindow;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public NotificationDispatcher(NotificationRepository notificationRepository,
+                                  NotificationStreams streams,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.notifications.queue-capacity:100000}") int queueCapacity,
+                                  @Value("${app.notifications.batch-size:2000}") int batchSize,
+                                  @Value("${app.notifications.coalesce-window-ms:600000}") long coalesceWindowMs) {
+        this.notificationRepository = notificationRepository;
+        this.streams = streams;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.coalesceWindow = Duration.ofMillis(coalesceWindowMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        if (!queue.offer(event) && dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("Notification queue is full, {} notifications dropped so far", dropped.get());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notifications.queue.depth", this, NotificationDispatcher::getQueueDepth)
+                .description("Notification events waiting to be stored and pushed")
+                .register(registry);
+        FunctionCounter.builder("notifications.dropped", this, NotificationDispatcher::getDroppedCount)
+                .description("Notification events dropped because the queue was full")
+                .register(registry);
+        Gauge.builder("notifications.subscribers", streams, NotificationStreams::getSubscriberCount)
+                .description("Open notification streams")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.flush-interval-ms:1000}")
+    public void flush() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                deliver(batch);
+            } catch (RuntimeException ex) {
+                log.error("Failed to store {} notifications", batch.size(), ex);
+            }
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<NotificationEvent> batch) {
+        Map<Key, List<NotificationEvent>> groups = new LinkedHashMap<>();
+        for (NotificationEvent event : batch) {
+            groups.computeIfAbsent(new Key(event.recipientId(), event.type()), key -> new ArrayList<>()).add(event);
+        }
+
+        List<Notification> stored = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Map<Key, Notification> open = new HashMap<>();
+            List<UUID> recipients = groups.keySet().stream().map(Key::userId).distinct().toList();
+            for (Notification existing : notificationRepository.findByUserIdInAndReadFalseAndUpdatedAtAfter(
+                    recipients, now.minus(coalesceWindow))) {
+                open.merge(new Key(existing.getUserId(), existing.getType()), existing,
+                        (a, b) -> a.getUpdatedAt().isAfter(b.getUpdatedAt()) ? a : b);
+            }
+
+            List<Notification> changed = new ArrayList<>(groups.size());
+            groups.forEach((key, events) -> {
+                NotificationEvent latest = events.get(events.size() - 1);
+                Notification notification = open.get(key);
+                if (notification == null) {
+                    notification = new Notification();
+                    notification.setUserId(key.userId());
+                    notification.setType(key.type());
+                }
+                notification.setCount(notification.getCount() + events.size());
+                notification.setTitle(truncate(key.type().title(notification.getCount(), latest.summary())));
+                notification.setReferenceId(latest.referenceId());
+                notification.setUpdatedAt(now);
+                notification.setEmailedAt(null);
+                changed.add(notification);
+            });
+            return notificationRepository.saveAll(changed);
+        });
+
+        Map<UUID, List<NotificationResponse>> byUser = new HashMap<>();
+        for (Notification notification : stored) {
+            if (streams.isSubscribed(notification.getUserId())) {
+                byUser.computeIfAbsent(notification.getUserId(), id -> new ArrayList<>())
+                        .add(NotificationMapper.toResponse(notification));
+            }
+        }
+        byUser.forEach((userId, notifications) -> {
+            try {
+                streams.push(userId, notifications);
+            } catch (TaskRejectedException ex) {
+                log.debug("Skipped live push for user {}", userId);
+            }
+        });
+    }
+
+    private static String truncate(String title) {
+        return title.length() > 255 ? title.substring(0, 254) + "…" : title;
+    }
+
+    private record Key(UUID userId, NotificationType type) {}
+}
@@ -0,0 +1,10 @@
+package com.teamcollabhub.backend.notification;
+
+import java.util.UUID;
+
+public record NotificationEvent(
+        UUID recipientId,
+        NotificationType type,
+        UUID referenceId,
+        String summary
+) {}
@@ -0,0 +1,20 @@
+package com.teamcollabhub.backend.notification;
+
+public final class NotificationMapper {
+
+    private NotificationMapper() {
+    }
+
+    public static NotificationResponse toResponse(Notification notification) {
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getType().name().toLowerCase().replace('_', '-'),
+                notification.getTitle(),
+                notification.getReferenceId(),
+                notification.getCount(),
+                notification.isRead(),
+                notification.getCreatedAt(),
+                notification.getUpdatedAt()
+        );
+    }
+}
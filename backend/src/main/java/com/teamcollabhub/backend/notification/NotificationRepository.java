@@ -0,0 +1,52 @@
+package com.teamcollabhub.backend.notification;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+    List<Notification> findByUserIdOrderByUpdatedAtDesc(UUID userId, Pageable pageable);
+
+    List<Notification> findByUserIdAndReadFalseOrderByUpdatedAtDesc(UUID userId, Pageable pageable);
+
+    long countByUserIdAndReadFalse(UUID userId);
+
+    List<Notification> findByUserIdInAndReadFalseAndUpdatedAtAfter(Collection<UUID> userIds, Instant updatedAfter);
+
+    /**
+     * Marks up to {@code limit} unread, unemailed notifications as emailed and returns them. Rows
+     * another node has locked are skipped, so each notification is claimed by one node only.
+     */
+    @Query(value = """
+            UPDATE notifications SET emailed_at = :now
+            WHERE id IN (SELECT id FROM notifications
+                         WHERE is_read = false AND emailed_at IS NULL
+                         ORDER BY user_id
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id, user_id AS "userId", title, item_count AS "count"
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"))
+    List<DigestClaim> claimForDigest(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Returns claimed notifications whose digest could not be sent, so a later run retries them.
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.emailedAt = null WHERE n.id IN :ids AND n.emailedAt = :claimedAt")
+    int releaseDigestClaim(@Param("ids") Collection<UUID> ids, @Param("claimedAt") Instant claimedAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") UUID userId);
+}
@@ -0,0 +1,15 @@
+package com.teamcollabhub.backend.notification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record NotificationResponse(
+        UUID id,
+        String type,
+        String title,
+        UUID referenceId,
+        int count,
+        boolean read,
+        Instant createdAt,
+        Instant updatedAt
+) {}
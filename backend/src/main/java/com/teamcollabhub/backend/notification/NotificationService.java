@@ -0,0 +1,47 @@
+package com.teamcollabhub.backend.notification;
+
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final NotificationRepository notificationRepository;
+
+    public NotificationService(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Notification> findForUser(UUID userId, boolean unreadOnly, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return unreadOnly
+                ? notificationRepository.findByUserIdAndReadFalseOrderByUpdatedAtDesc(userId, page)
+                : notificationRepository.findByUserIdOrderByUpdatedAtDesc(userId, page);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(UUID userId) {
+        return notificationRepository.countByUserIdAndReadFalse(userId);
+    }
+
+    public Notification markRead(UUID userId, UUID notificationId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+        notification.setRead(true);
+        return notificationRepository.save(notification);
+    }
+
+    public int markAllRead(UUID userId) {
+        return notificationRepository.markAllRead(userId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamcollabhub.backend.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+@Component
+public class NotificationStreams {
+
+    private final ConcurrentHashMap<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long emitterTimeoutMs;
+
+    public NotificationStreams(@Value("${app.notifications.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitters.compute(userId, (id, existing) -> {
+            Set<SseEmitter> target = existing != null ? existing : new CopyOnWriteArraySet<>();
+            target.add(emitter);
+            return target;
+        });
+        Runnable unsubscribe = () -> emitters.computeIfPresent(userId, (id, existing) -> {
+            existing.remove(emitter);
+            return existing.isEmpty() ? null : existing;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    public boolean isSubscribed(UUID userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public int getSubscriberCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Async
+    public void push(UUID userId, List<NotificationResponse> notifications) {
+        Set<SseEmitter> targets = emitters.get(userId);
+        if (targets == null) {
+            return;
+        }
+        for (SseEmitter emitter : targets) {
+            try {
+                emitter.send(SseEmitter.event().name("notifications").data(notifications));
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamcollabhub.backend.notification;
+
+public enum NotificationType {
+    TASK_ASSIGNED("Task assigned to you: %s", "%d tasks assigned to you"),
+    TASK_DUE("Task due soon: %s", "%d tasks due soon"),
+    MENTION("You were mentioned: %s", "%d new mentions"),
+    DIRECT_MESSAGE("New direct message: %s", "%d new direct messages");
+
+    private final String singleTitle;
+    private final String groupedTitle;
+
+    NotificationType(String singleTitle, String groupedTitle) {
+        this.singleTitle = singleTitle;
+        this.groupedTitle = groupedTitle;
+    }
+
+    public String title(int count, String summary) {
+        return count == 1 ? String.format(singleTitle, summary) : String.format(groupedTitle, count);
+    }
+}
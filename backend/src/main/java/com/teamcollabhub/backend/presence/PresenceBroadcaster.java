@@ -0,0 +1,131 @@
+package com.teamcollabhub.backend.presence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PresenceBroadcaster implements MeterBinder {
+
+    private final ConcurrentHashMap<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final long emitterTimeoutMs;
+    private final AtomicLong discarded = new AtomicLong();
+
+    public PresenceBroadcaster(@Value("${app.presence.push-queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.presence.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "presence-push");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    discarded.incrementAndGet();
+                    new ThreadPoolExecutor.DiscardOldestPolicy().rejectedExecution(runnable, pool);
+                });
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    public SseEmitter subscribe(UUID chatId, Set<UUID> participants) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        channels.compute(chatId, (id, channel) -> {
+            Channel target = channel != null ? channel : new Channel(participants);
+            target.emitters.add(emitter);
+            return target;
+        });
+        Runnable unsubscribe = () -> unsubscribe(chatId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    public void send(SseEmitter emitter, PresenceEvent event) {
+        executor.execute(() -> deliver(emitter, event));
+    }
+
+    public void userOnline(UUID userId, boolean online) {
+        executor.execute(() -> channels.forEach((chatId, channel) -> {
+            if (channel.participants.contains(userId)) {
+                PresenceEvent event = new PresenceEvent("presence", chatId, userId, online);
+                channel.emitters.forEach(emitter -> deliver(emitter, event));
+            }
+        }));
+    }
+
+    public void typing(UUID chatId, UUID userId, boolean typing) {
+        if (!channels.containsKey(chatId)) {
+            return;
+        }
+        executor.execute(() -> {
+            Channel channel = channels.get(chatId);
+            if (channel != null) {
+                PresenceEvent event = new PresenceEvent("typing", chatId, userId, typing);
+                channel.emitters.forEach(emitter -> deliver(emitter, event));
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("presence.push.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Presence and typing pushes waiting to be fanned out")
+                .register(registry);
+        FunctionCounter.builder("presence.push.discarded", discarded, AtomicLong::get)
+                .description("Pushes discarded because the fan-out queue was full")
+                .register(registry);
+        Gauge.builder("presence.subscribers", channels,
+                        open -> open.values().stream().mapToInt(channel -> channel.emitters.size()).sum())
+                .description("Open chat presence streams")
+                .register(registry);
+    }
+
+    private void deliver(SseEmitter emitter, PresenceEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(event.type()).data(event));
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private void unsubscribe(UUID chatId, SseEmitter emitter) {
+        channels.computeIfPresent(chatId, (id, channel) -> {
+            channel.emitters.remove(emitter);
+            return channel.emitters.isEmpty() ? null : channel;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        channels.values().forEach(channel -> channel.emitters.forEach(SseEmitter::complete));
+        channels.clear();
+    }
+
+    private static final class Channel {
+
+        private final Set<UUID> participants;
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+
+        private Channel(Set<UUID> participants) {
+            this.participants = Set.copyOf(participants);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.teamcollabhub.backend.presence;
+
+import com.teamcollabhub.backend.chat.ChatService;
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api")
+public class PresenceController {
+
+    private final PresenceService presenceService;
+    private final ChatService chatService;
+
+    public PresenceController(PresenceService presenceService, ChatService chatService) {
+        this.presenceService = presenceService;
+        this.chatService = chatService;
+    }
+
+    @PostMapping("/presence/heartbeat")
+    public ResponseEntity<Void> heartbeat(@AuthenticationPrincipal AuthenticatedUser user) {
+        presenceService.heartbeat(user.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/presence")
+    public List<PresenceResponse> getPresence(@RequestParam List<UUID> userIds) {
+        return presenceService.getPresence(userIds);
+    }
+
+    @PostMapping("/chats/{chatId}/typing")
+    public ResponseEntity<Void> typing(@PathVariable UUID chatId, @AuthenticationPrincipal AuthenticatedUser user) {
+        presenceService.typing(chatId, user.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/chats/{chatId}/typing")
+    public ResponseEntity<Void> stopTyping(@PathVariable UUID chatId, @AuthenticationPrincipal AuthenticatedUser user) {
+        presenceService.stopTyping(chatId, user.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/chats/{chatId}/typing")
+    public Set<UUID> getTyping(@PathVariable UUID chatId) {
+        return presenceService.getTyping(chatId);
+    }
+
+    @GetMapping(path = "/chats/{chatId}/presence/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable UUID chatId, @AuthenticationPrincipal AuthenticatedUser user) {
+        Set<UUID> participants = chatService.getParticipantIds(chatId);
+        presenceService.heartbeat(user.id());
+        return presenceService.subscribe(chatId, participants);
+    }
+}
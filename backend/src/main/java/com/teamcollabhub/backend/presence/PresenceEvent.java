@@ -0,0 +1,10 @@
+package com.teamcollabhub.backend.presence;
+
+import java.util.UUID;
+
+public record PresenceEvent(
+        String type,
+        UUID chatId,
+        UUID userId,
+        boolean active
+) {}
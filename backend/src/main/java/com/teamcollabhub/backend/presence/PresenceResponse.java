@@ -0,0 +1,8 @@
+package com.teamcollabhub.backend.presence;
+
+import java.util.UUID;
+
+public record PresenceResponse(
+        UUID userId,
+        boolean online
+) {}
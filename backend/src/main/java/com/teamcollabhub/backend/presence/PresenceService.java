@@ -0,0 +1,120 @@
+package com.teamcollabhub.backend.presence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PresenceService {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final PresenceTracker<UUID> online;
+    private final PresenceTracker<TypingKey> typing;
+    private final ConcurrentHashMap<UUID, Set<UUID>> typingByChat = new ConcurrentHashMap<>();
+    private final PresenceBroadcaster broadcaster;
+    private final long onlineTtlMs;
+    private final long typingTtlMs;
+
+    public PresenceService(PresenceBroadcaster broadcaster,
+                           @Value("${app.presence.online-ttl-ms:30000}") long onlineTtlMs,
+                           @Value("${app.presence.typing-ttl-ms:6000}") long typingTtlMs,
+                           @Value("${app.presence.tick-ms:100}") long tickMs,
+                           @Value("${app.presence.max-entries:200000}") int maxEntries) {
+        long now = System.currentTimeMillis();
+        this.online = new PresenceTracker<>(new TimerWheel<>(tickMs, WHEEL_SIZE, now), maxEntries);
+        this.typing = new PresenceTracker<>(new TimerWheel<>(tickMs, WHEEL_SIZE, now), maxEntries);
+        this.broadcaster = broadcaster;
+        this.onlineTtlMs = onlineTtlMs;
+        this.typingTtlMs = typingTtlMs;
+    }
+
+    public void heartbeat(UUID userId) {
+        if (online.touch(userId, System.currentTimeMillis() + onlineTtlMs)) {
+            broadcaster.userOnline(userId, true);
+        }
+    }
+
+    public void typing(UUID chatId, UUID userId) {
+        heartbeat(userId);
+        TypingKey key = new TypingKey(chatId, userId);
+        if (typing.touch(key, System.currentTimeMillis() + typingTtlMs)) {
+            syncTypingIndex(key);
+            broadcaster.typing(chatId, userId, true);
+        }
+    }
+
+    public void stopTyping(UUID chatId, UUID userId) {
+        TypingKey key = new TypingKey(chatId, userId);
+        if (typing.remove(key)) {
+            syncTypingIndex(key);
+            broadcaster.typing(chatId, userId, false);
+        }
+    }
+
+    public boolean isOnline(UUID userId) {
+        return online.contains(userId);
+    }
+
+    public List<PresenceResponse> getPresence(Collection<UUID> userIds) {
+        return userIds.stream()
+                .map(id -> new PresenceResponse(id, isOnline(id)))
+                .toList();
+    }
+
+    public Set<UUID> getTyping(UUID chatId) {
+        Set<UUID> typists = typingByChat.get(chatId);
+        return typists == null ? Set.of() : Set.copyOf(typists);
+    }
+
+    public SseEmitter subscribe(UUID chatId, Set<UUID> participants) {
+        SseEmitter emitter = broadcaster.subscribe(chatId, participants);
+        for (UUID participant : participants) {
+            if (isOnline(participant)) {
+                broadcaster.send(emitter, new PresenceEvent("presence", chatId, participant, true));
+            }
+        }
+        for (UUID typist : getTyping(chatId)) {
+            broadcaster.send(emitter, new PresenceEvent("typing", chatId, typist, true));
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.presence.tick-ms:100}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        online.expire(now, userId -> broadcaster.userOnline(userId, false));
+        typing.expire(now, key -> {
+            syncTypingIndex(key);
+            broadcaster.typing(key.chatId(), key.userId(), false);
+        });
+    }
+
+    /**
+     * Brings the per-chat typing index in line with the tracker for one key. Runs after every
+     * change to the key and reads the tracker under the chat's map entry, so whichever call comes
+     * last leaves the index matching the tracker however the changes interleaved.
+     */
+    private void syncTypingIndex(TypingKey key) {
+        typingByChat.compute(key.chatId(), (chatId, typists) -> {
+            if (typing.contains(key)) {
+                Set<UUID> updated = typists != null ? typists : ConcurrentHashMap.newKeySet();
+                updated.add(key.userId());
+                return updated;
+            }
+            if (typists != null) {
+                typists.remove(key.userId());
+            }
+            return typists == null || typists.isEmpty() ? null : typists;
+        });
+    }
+
+    record TypingKey(UUID chatId, UUID userId) {}
+}
@@ -0,0 +1,95 @@
+package com.teamcollabhub.backend.presence;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded set of keys that stay present until their deadline passes. Refreshing an existing key
+ * is a single atomic update; only first appearance and expiry touch the timer wheel.
+ */
+final class PresenceTracker<K> {
+
+    private static final long EXPIRED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<K, Entry<K>> entries = new ConcurrentHashMap<>();
+    private final TimerWheel<Entry<K>> wheel;
+    private final int maxEntries;
+
+    PresenceTracker(TimerWheel<Entry<K>> wheel, int maxEntries) {
+        this.wheel = wheel;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return {@code true} if the key was not present before this call
+     */
+    boolean touch(K key, long deadline) {
+        while (true) {
+            Entry<K> entry = entries.get(key);
+            if (entry != null) {
+                long updated = entry.accumulateAndGet(deadline,
+                        (current, next) -> current == EXPIRED ? EXPIRED : Math.max(current, next));
+                if (updated != EXPIRED) {
+                    return false;
+                }
+                entries.remove(key, entry);
+                continue;
+            }
+            if (entries.size() >= maxEntries) {
+                return false;
+            }
+            Entry<K> created = new Entry<>(key, deadline);
+            if (entries.putIfAbsent(key, created) == null) {
+                wheel.schedule(created, deadline);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the key was present and has been removed by this call
+     */
+    boolean remove(K key) {
+        Entry<K> entry = entries.get(key);
+        if (entry == null || entry.getAndSet(EXPIRED) == EXPIRED) {
+            return false;
+        }
+        entries.remove(key, entry);
+        return true;
+    }
+
+    boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    void expire(long now, Consumer<K> onExpired) {
+        wheel.advance(now, entry -> {
+            if (entries.get(entry.key) != entry) {
+                return;
+            }
+            long deadline = entry.get();
+            while (deadline != EXPIRED && deadline <= now) {
+                if (entry.compareAndSet(deadline, EXPIRED)) {
+                    entries.remove(entry.key, entry);
+                    onExpired.accept(entry.key);
+                    return;
+                }
+                deadline = entry.get();
+            }
+            if (deadline != EXPIRED) {
+                wheel.schedule(entry, deadline);
+            }
+        });
+    }
+
+    static final class Entry<K> extends AtomicLong {
+
+        private final K key;
+
+        private Entry(K key, long deadline) {
+            super(deadline);
+            this.key = key;
+        }
+    }
+}
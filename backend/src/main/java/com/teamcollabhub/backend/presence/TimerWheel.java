@@ -0,0 +1,59 @@
+package com.teamcollabhub.backend.presence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel. Scheduling is a single lock-free enqueue into the slot that owns the
+ * deadline; {@link #advance} is expected to be called from one ticker thread only.
+ * Items whose deadline is more than one rotation away simply come around again, so callers
+ * must re-check the deadline when an item is handed back.
+ */
+final class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Queue<T>> slots;
+    private volatile long lastTick;
+
+    TimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ConcurrentLinkedQueue<>());
+        }
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(deadlineMillis / tickMillis, lastTick + 1);
+        slots.get((int) (tick & mask)).add(item);
+    }
+
+    void advance(long nowMillis, Consumer<T> consumer) {
+        long target = nowMillis / tickMillis;
+        long from = lastTick + 1;
+        if (target < from) {
+            return;
+        }
+        long to = Math.min(target, from + mask);
+        lastTick = target;
+        List<T> due = new ArrayList<>();
+        for (long tick = from; tick <= to; tick++) {
+            Queue<T> slot = slots.get((int) (tick & mask));
+            T item;
+            while ((item = slot.poll()) != null) {
+                due.add(item);
+            }
+        }
+        due.forEach(consumer);
+    }
+}
@@ -0,0 +1,29 @@
+package com.teamcollabhub.backend.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maxEntries,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue Limit defaults,
+        @DefaultValue List<Route> routes
+) {
+
+    public record Limit(
+            @DefaultValue("200") long capacity,
+            @DefaultValue("50") double refillPerSecond
+    ) {}
+
+    public record Route(
+            String method,
+            String pattern,
+            long capacity,
+            double refillPerSecond
+    ) {}
+}
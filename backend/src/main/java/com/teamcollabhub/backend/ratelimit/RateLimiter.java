@@ -0,0 +1,150 @@
+package com.teamcollabhub.backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per (route, client), implemented as GCRA: each bucket is a single
+ * {@link AtomicLong} holding the theoretical arrival time, updated with one CAS per request.
+ * A bucket whose arrival time lies in the past is full, so idle buckets can be evicted freely.
+ */
+public class RateLimiter implements MeterBinder {
+
+    private final List<Rule> rules;
+    private final Rule fallback;
+    private final Cache<BucketKey, Bucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        List<Rule> parsed = new ArrayList<>();
+        for (RateLimitProperties.Route route : properties.routes()) {
+            if (route.pattern() == null || route.pattern().isBlank()) {
+                throw new IllegalArgumentException("app.rate-limit.routes[" + parsed.size() + "].pattern is required");
+            }
+            validate("app.rate-limit.routes[" + parsed.size() + "]", route.capacity(), route.refillPerSecond());
+            parsed.add(new Rule(parsed.size(),
+                    route.method() == null || route.method().isBlank() ? null : route.method().toUpperCase(),
+                    PathPatternParser.defaultInstance.parse(route.pattern()),
+                    route.capacity(),
+                    route.refillPerSecond()));
+        }
+        this.rules = List.copyOf(parsed);
+        validate("app.rate-limit.defaults", properties.defaults().capacity(), properties.defaults().refillPerSecond());
+        this.fallback = new Rule(-1, null, null, properties.defaults().capacity(), properties.defaults().refillPerSecond());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    /**
+     * Rejects limits the GCRA arithmetic cannot represent: a zero or negative rate has no emission
+     * interval, and the burst (interval times capacity) must fit in a long of nanoseconds.
+     */
+    private static void validate(String name, long capacity, double refillPerSecond) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(name + ".capacity must be positive, was " + capacity);
+        }
+        if (!(refillPerSecond > 0) || Double.isInfinite(refillPerSecond)) {
+            throw new IllegalArgumentException(name + ".refill-per-second must be positive, was " + refillPerSecond);
+        }
+        double burstNanos = TimeUnit.SECONDS.toNanos(1) / refillPerSecond * capacity;
+        if (burstNanos >= Long.MAX_VALUE / 2) {
+            throw new IllegalArgumentException(name + ": capacity / refill-per-second is too large");
+        }
+    }
+
+    public Rule resolve(String method, String path) {
+        if (rules.isEmpty()) {
+            return fallback;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            if ((rule.method == null || rule.method.equals(method)) && rule.pattern.matches(container)) {
+                return rule;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Takes one token for the client, returning 0 when allowed or the nanoseconds until a token
+     * becomes available.
+     */
+    public long tryAcquire(Rule rule, Object client) {
+        return tryAcquire(rule, client, System.nanoTime());
+    }
+
+    long tryAcquire(Rule rule, Object client, long nowNanos) {
+        Bucket bucket = buckets.get(new BucketKey(rule.index, client), key -> new Bucket());
+        return bucket.tryAcquire(nowNanos, rule.intervalNanos, rule.burstNanos);
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate-limit.buckets", this, RateLimiter::size)
+                .description("Clients with a live token bucket")
+                .register(registry);
+    }
+
+    public static final class Rule {
+
+        private final int index;
+        private final String method;
+        private final PathPattern pattern;
+        private final long capacity;
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        Rule(int index, String method, PathPattern pattern, long capacity, double refillPerSecond) {
+            this.index = index;
+            this.method = method;
+            this.pattern = pattern;
+            this.capacity = capacity;
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+            this.burstNanos = intervalNanos * this.capacity;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+    }
+
+    private record BucketKey(int rule, Object client) {}
+
+    private static final class Bucket extends AtomicLong {
+
+        Bucket() {
+            super(Long.MIN_VALUE);
+        }
+
+        long tryAcquire(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long tat = get();
+                long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+                long next = base + intervalNanos;
+                long excess = next - now - burstNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.teamcollabhub.backend.reaction;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface MessageReactionRepository extends JpaRepository<MessageReaction, UUID> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_message_reactions (id, message_id, user_id, emoji, created_at)
+            VALUES (:id, :messageId, :userId, :emoji, :createdAt)
+            ON CONFLICT (message_id, user_id, emoji) DO NOTHING
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_message_reactions"))
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("messageId") UUID messageId,
+                       @Param("userId") UUID userId,
+                       @Param("emoji") String emoji,
+                       @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query("DELETE FROM MessageReaction r WHERE r.messageId = :messageId AND r.userId = :userId AND r.emoji = :emoji")
+    int deleteReaction(@Param("messageId") UUID messageId,
+                       @Param("userId") UUID userId,
+                       @Param("emoji") String emoji);
+
+    @Modifying
+    @Query("DELETE FROM MessageReaction r WHERE r.messageId = :messageId")
+    void deleteByMessageId(@Param("messageId") UUID messageId);
+}
@@ -0,0 +1,35 @@
+package com.teamcollabhub.backend.reaction;
+
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/chats/{chatId}/messages/{messageId}/reactions")
+public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    public ReactionController(ReactionService reactionService) {
+        this.reactionService = reactionService;
+    }
+
+    @PostMapping
+    public ReactionSummaryResponse addReaction(@PathVariable UUID chatId,
+                                               @PathVariable UUID messageId,
+                                               @Valid @RequestBody ReactionRequest request,
+                                               @AuthenticationPrincipal AuthenticatedUser user) {
+        return reactionService.addReaction(chatId, messageId, user.id(), request.emoji());
+    }
+
+    @DeleteMapping
+    public ReactionSummaryResponse removeReaction(@PathVariable UUID chatId,
+                                                  @PathVariable UUID messageId,
+                                                  @RequestParam String emoji,
+                                                  @AuthenticationPrincipal AuthenticatedUser user) {
+        return reactionService.removeReaction(chatId, messageId, user.id(), emoji);
+    }
+}
@@ -0,0 +1,155 @@
+package com.teamcollabhub.backend.reaction;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates reaction count deltas in memory and periodically folds them into
+ * {@code chat_message_reaction_counts} with one batched upsert. Hot messages only ever touch
+ * their own {@link LongAdder}, so concurrent reactions do not contend on a row lock. Deltas are
+ * grouped by message, so reading one message's pending counts does not scan the others.
+ * <p>
+ * The batch runs in one transaction. If a message is deleted while it is being flushed, the batch
+ * rolls back and is applied row by row instead, so only the deltas of messages that are gone are
+ * dropped.
+ */
+@Component
+public class ReactionCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactionCounter.class);
+
+    private static final String UPSERT = """
+            INSERT INTO chat_message_reaction_counts (message_id, emoji, reaction_count)
+            SELECT ?, ?, ? WHERE EXISTS (SELECT 1 FROM chat_messages WHERE id = ?)
+            ON CONFLICT (message_id, emoji)
+            DO UPDATE SET reaction_count = chat_message_reaction_counts.reaction_count + EXCLUDED.reaction_count
+            """;
+
+    private static final String MESSAGE_EXISTS = "SELECT EXISTS (SELECT 1 FROM chat_messages WHERE id = ?)";
+
+    private final ConcurrentHashMap<UUID, ConcurrentHashMap<String, LongAdder>> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReactionCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void add(UUID messageId, String emoji, long delta) {
+        ConcurrentHashMap<String, LongAdder> byEmoji =
+                pending.computeIfAbsent(messageId, id -> new ConcurrentHashMap<>());
+        LongAdder adder = byEmoji.computeIfAbsent(emoji, e -> new LongAdder());
+        adder.add(delta);
+        if (byEmoji.get(emoji) != adder || pending.get(messageId) != byEmoji) {
+            // The flusher evicted this adder or its message concurrently; reclaim whatever it did not drain.
+            long leftover = adder.sumThenReset();
+            if (leftover != 0) {
+                add(messageId, emoji, leftover);
+            }
+        }
+    }
+
+    public Map<String, Long> pending(UUID messageId) {
+        ConcurrentHashMap<String, LongAdder> byEmoji = pending.get(messageId);
+        if (byEmoji == null) {
+            return Map.of();
+        }
+        Map<String, Long> deltas = new HashMap<>();
+        byEmoji.forEach((emoji, adder) -> deltas.put(emoji, adder.sum()));
+        return deltas;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reactions.flush-interval-ms:500}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((messageId, byEmoji) -> {
+            byEmoji.forEach((emoji, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta == 0 && byEmoji.remove(emoji, adder)) {
+                    delta = adder.sumThenReset();
+                }
+                if (delta != 0) {
+                    batch.add(new Object[]{messageId, emoji, delta, messageId});
+                }
+            });
+            // An add that raced with the removal either sees it and reclaims its delta, or put its
+            // adder in before it, in which case it is drained here.
+            if (byEmoji.isEmpty() && pending.remove(messageId, byEmoji)) {
+                byEmoji.forEach((emoji, adder) -> {
+                    long delta = adder.sumThenReset();
+                    if (delta != 0) {
+                        batch.add(new Object[]{messageId, emoji, delta, messageId});
+                    }
+                });
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT, batch));
+        } catch (DataIntegrityViolationException ex) {
+            flushRowByRow(batch);
+        } catch (DataAccessException ex) {
+            log.warn("Reaction count flush failed, retrying {} deltas on the next run", batch.size(), ex);
+            batch.forEach(this::requeue);
+        }
+    }
+
+    private void flushRowByRow(List<Object[]> batch) {
+        int dropped = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Object[] row = batch.get(i);
+            try {
+                jdbcTemplate.update(UPSERT, row);
+            } catch (DataIntegrityViolationException ex) {
+                if (messageExists((UUID) row[0])) {
+                    requeue(row);
+                } else {
+                    dropped++;
+                }
+            } catch (DataAccessException ex) {
+                log.warn("Reaction count flush failed, retrying {} deltas on the next run", batch.size() - i, ex);
+                batch.subList(i, batch.size()).forEach(this::requeue);
+                break;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} reaction count deltas for removed messages", dropped);
+        }
+    }
+
+    private boolean messageExists(UUID messageId) {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(MESSAGE_EXISTS, Boolean.class, messageId));
+        } catch (DataAccessException ex) {
+            // Cannot tell, so keep the delta rather than lose it
+            return true;
+        }
+    }
+
+    private void requeue(Object[] row) {
+        add((UUID) row[0], (String) row[1], (Long) row[2]);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,8 @@
+package com.teamcollabhub.backend.reaction;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record ReactionRequest(
+        @NotBlank @Size(max = 32) String emoji
+) {}
@@ -0,0 +1,70 @@
+package com.teamcollabhub.backend.reaction;
+
+import com.teamcollabhub.backend.chat.ChatMessage;
+import com.teamcollabhub.backend.chat.ChatMessageRepository;
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class ReactionService {
+
+    private final MessageReactionRepository reactionRepository;
+    private final ChatMessageRepository messageRepository;
+    private final ReactionCounter reactionCounter;
+
+    public ReactionService(MessageReactionRepository reactionRepository,
+                           ChatMessageRepository messageRepository,
+                           ReactionCounter reactionCounter) {
+        this.reactionRepository = reactionRepository;
+        this.messageRepository = messageRepository;
+        this.reactionCounter = reactionCounter;
+    }
+
+    public ReactionSummaryResponse addReaction(UUID chatId, UUID messageId, UUID userId, String emoji) {
+        ChatMessage message = getMessage(chatId, messageId);
+        String normalized = emoji.strip();
+        int inserted = reactionRepository.insertIfAbsent(UUID.randomUUID(), messageId, userId, normalized, Instant.now());
+        return summarize(message, normalized, inserted);
+    }
+
+    public ReactionSummaryResponse removeReaction(UUID chatId, UUID messageId, UUID userId, String emoji) {
+        ChatMessage message = getMessage(chatId, messageId);
+        String normalized = emoji.strip();
+        int deleted = reactionRepository.deleteReaction(messageId, userId, normalized);
+        return summarize(message, normalized, -deleted);
+    }
+
+    private ReactionSummaryResponse summarize(ChatMessage message, String emoji, long delta) {
+        if (delta != 0) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reactionCounter.add(message.getId(), emoji, delta);
+                }
+            });
+        }
+        Map<String, Long> counts = new TreeMap<>(message.getReactionCounts());
+        reactionCounter.pending(message.getId()).forEach((key, pending) -> counts.merge(key, pending, Long::sum));
+        counts.merge(emoji, delta, Long::sum);
+        counts.values().removeIf(count -> count <= 0);
+        return new ReactionSummaryResponse(message.getId(), counts);
+    }
+
+    private ChatMessage getMessage(UUID chatId, UUID messageId) {
+        ChatMessage message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
+        if (!message.getChat().getId().equals(chatId)) {
+            throw new ResourceNotFoundException("Message not found in chat");
+        }
+        return message;
+    }
+}
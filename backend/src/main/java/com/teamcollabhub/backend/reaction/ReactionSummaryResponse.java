@@ -0,0 +1,9 @@
+package com.teamcollabhub.backend.reaction;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record ReactionSummaryResponse(
+        UUID messageId,
+        Map<String, Long> reactions
+) {}
@@ -0,0 +1,37 @@
+package com.teamcollabhub.backend.replica;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps replica reads out of the second-level and query caches. A lagging replica can return rows
+ * that a write on the primary has already invalidated, and putting them back into the cache would
+ * keep them there until the entry expires. Transactions routed to a replica still read from the
+ * cache; only read-write transactions and reads served by the primary fill it.
+ */
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    private final ReplicaRouter router;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReplicaCacheModeListener(ReplicaRouter router, EntityManagerFactory entityManagerFactory) {
+        this.router = router;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly() || !router.routeToReplica()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+    }
+}
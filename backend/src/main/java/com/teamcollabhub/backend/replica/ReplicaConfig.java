@@ -0,0 +1,59 @@
+package com.teamcollabhub.backend.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with a {@link ReplicaRoutingDataSource} when
+ * {@code app.datasource.replicas.urls} lists at least one replica. The primary pool is still
+ * configured from {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isBlank()")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    @Bean
+    public ReplicaRouter replicaRouter(ReplicaProperties properties, DataSourceProperties primary) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(properties.urls().get(i).trim());
+            replica.setUsername(properties.username() != null ? properties.username() : primary.determineUsername());
+            replica.setPassword(properties.password() != null ? properties.password() : primary.determinePassword());
+            replica.setMaximumPoolSize(properties.maximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRouter(replicas, properties.maxLag(), properties.readYourWrites(), properties.lagQuery());
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, ReplicaRouter router) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (StringUtils.hasText(properties.getName())) {
+            primary.setPoolName(properties.getName());
+        }
+        return new ReplicaRoutingDataSource(primary, router);
+    }
+
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(ReplicaRouter router, EntityManagerFactory entityManagerFactory) {
+        return new ReplicaCacheModeListener(router, entityManagerFactory);
+    }
+}
@@ -0,0 +1,28 @@
+package com.teamcollabhub.backend.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public record ReplicaProperties(
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("1s") Duration maxLag,
+        @DefaultValue("5s") Duration readYourWrites,
+        @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery
+) {
+
+    /**
+     * Replay lag in milliseconds, or 0 when the standby has replayed everything it received.
+     */
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+}
@@ -0,0 +1,235 @@
+package com.teamcollabhub.backend.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamcollabhub.backend.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Picks the data source for read-only transactions. Replicas are used round robin while their
+ * replay lag stays within {@code maxLag}; otherwise reads fall back to the primary. A user whose
+ * own transaction wrote to the primary keeps reading from the primary for the read-your-writes
+ * window, which should comfortably exceed {@code maxLag}. That window is tracked per node.
+ */
+public class ReplicaRouter implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final String lagQuery;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong recentWriteReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+    private volatile List<Replica> available = List.of();
+
+    public ReplicaRouter(List<HikariDataSource> replicas, Duration maxLag, Duration readYourWrites, String lagQuery) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMs = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(readYourWrites)
+                .build();
+    }
+
+    public Connection getReadOnlyConnection(DataSource primary) throws SQLException {
+        if (routeToReplica()) {
+            List<Replica> candidates = available;
+            if (!candidates.isEmpty()) {
+                Replica replica = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+                try {
+                    Connection connection = replica.connections.getConnection();
+                    replicaReads.incrementAndGet();
+                    return connection;
+                } catch (SQLException ex) {
+                    log.warn("Replica {} is unavailable, reading from the primary: {}", replica.name(), ex.getMessage());
+                    replica.lagMs = -1;
+                    refreshAvailable();
+                }
+            }
+        } else if (isRecentWriter()) {
+            recentWriteReads.incrementAndGet();
+            return primary.getConnection();
+        }
+        fallbackReads.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    /**
+     * Whether the current read-only transaction reads from a replica. Decided on the first call and
+     * kept for the rest of the transaction, so it can be asked before any connection is taken.
+     */
+    public boolean routeToReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return !isRecentWriter() && !available.isEmpty();
+        }
+        Boolean routed = (Boolean) TransactionSynchronizationManager.getResource(this);
+        if (routed == null) {
+            routed = !isRecentWriter() && !available.isEmpty();
+            TransactionSynchronizationManager.bindResource(this, routed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaRouter.this);
+                }
+            });
+        }
+        return routed;
+    }
+
+    /**
+     * Called when a read-write transaction takes a primary connection. The current user reads
+     * from the primary once that transaction commits.
+     */
+    public void primaryConnectionAcquired() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        UUID userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Wraps each replica pool for the connections handed to read-only transactions. The lag check
+     * keeps using the pool directly.
+     */
+    public void decoratePools(Function<HikariDataSource, DataSource> decorator) {
+        for (Replica replica : replicas) {
+            replica.connections = decorator.apply(replica.pool);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:1000}",
+            initialDelayString = "${app.datasource.replicas.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            long lagMs;
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                lagMs = result.next() ? result.getLong(1) : -1;
+            } catch (SQLException ex) {
+                lagMs = -1;
+            }
+            if ((lagMs < 0 || lagMs > maxLagMs) && replica.isAvailable(maxLagMs)) {
+                log.warn("Replica {} taken out of rotation, lag {} ms", replica.name(), lagMs);
+            }
+            replica.lagMs = lagMs;
+        }
+        refreshAvailable();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            if (replica.pool.getMetricRegistry() == null) {
+                try {
+                    replica.pool.setMetricRegistry(registry);
+                } catch (IllegalStateException ex) {
+                    log.debug("Pool {} already started, no pool metrics", replica.name());
+                }
+            }
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMs)
+                    .description("Replay lag of a read replica in milliseconds, -1 when unreachable")
+                    .tag("replica", replica.name())
+                    .register(registry);
+        }
+        registerReads(registry, "replica", replicaReads);
+        registerReads(registry, "primary-recent-write", recentWriteReads);
+        registerReads(registry, "primary-fallback", fallbackReads);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private void registerReads(MeterRegistry registry, String target, AtomicLong counter) {
+        FunctionCounter.builder("db.replica.reads", counter, AtomicLong::get)
+                .description("Read-only transactions by the data source they were routed to")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    private void refreshAvailable() {
+        List<Replica> healthy = new ArrayList<>();
+        for (Replica replica : replicas) {
+            if (replica.isAvailable(maxLagMs)) {
+                healthy.add(replica);
+            }
+        }
+        available = List.copyOf(healthy);
+    }
+
+    private boolean isRecentWriter() {
+        UUID userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private volatile DataSource connections;
+        private volatile long lagMs = -1;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+            this.connections = pool;
+        }
+
+        private String name() {
+            return pool.getPoolName();
+        }
+
+        private boolean isAvailable(long maxLagMs) {
+            return lagMs >= 0 && lagMs <= maxLagMs;
+        }
+    }
+}
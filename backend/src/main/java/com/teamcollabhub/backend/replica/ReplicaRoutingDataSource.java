@@ -0,0 +1,65 @@
+package com.teamcollabhub.backend.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Function;
+
+/**
+ * The application's data source when replicas are configured. Connections are fetched lazily, so
+ * by the time the first statement runs the transaction manager has marked the connection read-only
+ * or not. Read-only connections are routed by the {@link ReplicaRouter}; everything else goes
+ * to the primary.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, ReplicaRouter router) {
+        this.primary = primary;
+        this.router = router;
+        route(primary);
+    }
+
+    /**
+     * Wraps the primary pool and every replica pool, each on its own. Wrapping this data source
+     * instead would see the lazy proxies it hands out rather than the pools they end up using.
+     */
+    public void decoratePools(Function<HikariDataSource, DataSource> decorator) {
+        route(decorator.apply(primary));
+        router.decoratePools(decorator);
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+
+    private void route(DataSource primaryConnections) {
+        setTargetDataSource(new DelegatingDataSource(primaryConnections) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                router.primaryConnectionAcquired();
+                return connection;
+            }
+        });
+        setReadOnlyDataSource(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return router.getReadOnlyConnection(primaryConnections);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return router.getReadOnlyConnection(primaryConnections);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.teamcollabhub.backend.security;
+
+import com.teamcollabhub.backend.user.User;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The principal of a token-authenticated request. It is immutable and carries no password hash, so
+ * one instance can be cached and shared across concurrent requests; code that needs the account
+ * itself loads the {@link User} by id.
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        String name,
+        String role,
+        List<GrantedAuthority> authorities
+) {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                List.copyOf(user.getAuthorities()));
+    }
+}
@@ -3,12 +3,16 @@ package com.teamcollabhub.backend.security;
 import com.teamcollabhub.backend.user.User;
 import com.teamcollabhub.backend.user.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -16,10 +20,32 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Read-write so that a login right after registration finds the user on the primary. Runs in
+     * its own short transaction: the password is matched after it has ended.
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByEmail(username)
                 .map(User.class::cast)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Read-write on purpose, so the lookup runs on the primary: a token issued moments ago must
+     * resolve even if replicas have not caught up with the user row yet.
+     */
+    @Transactional
+    public AuthenticatedUser loadPrincipalById(UUID id) {
+        return userRepository.findById(id).map(AuthenticatedUser::of).orElse(null);
+    }
 }
@@ -0,0 +1,6 @@
+package com.teamcollabhub.backend.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record IssuedToken(String value, UUID id, Instant expiresAt) {}
@@ -1,5 +1,6 @@
 package com.teamcollabhub.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,24 +8,31 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-                                   CustomUserDetailsService userDetailsService) {
+                                   CustomUserDetailsService userDetailsService,
+                                   PrincipalCache principalCache,
+                                   TokenRevocationList revocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -34,19 +42,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String bearer = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ") && SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = bearer.substring(7);
-            if (jwtTokenProvider.validateToken(token)) {
-                var claims = jwtTokenProvider.getClaims(token);
-                String subject = claims.getSubject();
+            Optional<Claims> verified = jwtTokenProvider.verify(token);
+            if (verified.isPresent() && !isRevoked(verified.get())) {
+                Claims claims = verified.get();
                 String email = claims.get("email", String.class);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                if (userDetails instanceof com.teamcollabhub.backend.user.User user && !user.getId().toString().equals(subject)) {
+                Optional<AuthenticatedUser> principal = resolvePrincipal(claims.getSubject());
+                if (principal.isEmpty() || !principal.get().email().equals(email)) {
                     filterChain.doFilter(request, response);
                     return;
                 }
+                AuthenticatedUser user = principal.get();
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        user,
                         null,
-                        userDetails.getAuthorities()
+                        user.authorities()
                 );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -54,4 +63,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private boolean isRevoked(Claims claims) {
+        String id = claims.getId();
+        if (id == null) {
+            return false;
+        }
+        try {
+            return revocationList.isRevoked(UUID.fromString(id));
+        } catch (IllegalArgumentException ex) {
+            return true;
+        }
+    }
+
+    private Optional<AuthenticatedUser> resolvePrincipal(String subject) {
+        UUID userId;
+        try {
+            userId = UUID.fromString(subject);
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            return Optional.empty();
+        }
+        return principalCache.get(userId, userDetailsService::loadPrincipalById);
+    }
 }
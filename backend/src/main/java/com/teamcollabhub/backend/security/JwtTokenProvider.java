@@ -1,59 +1,161 @@
 package com.teamcollabhub.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     private final Key key;
     private final long expirationMs;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+    private volatile VerificationTimers timers;
 
     public JwtTokenProvider(@Value("${app.security.jwt.secret}") String secret,
-                            @Value("${app.security.jwt.expiration-ms:86400000}") long expirationMs) {
+                            @Value("${app.security.jwt.expiration-ms:900000}") long expirationMs,
+                            @Value("${app.security.jwt.verified-cache.max-size:10000}") long verifiedCacheSize,
+                            @Value("${app.security.jwt.verified-cache.ttl-ms:300000}") long verifiedCacheTtlMs) {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry(TimeUnit.MILLISECONDS.toNanos(verifiedCacheTtlMs)))
+                .recordStats()
+                .build();
     }
 
     public String generateToken(String subject, String email) {
+        return issue(subject, email).value();
+    }
+
+    public IssuedToken issue(String subject, String email) {
+        UUID id = UUID.randomUUID();
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .setId(id.toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .claim("email", email)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
+        return new IssuedToken(token, id, expiry.toInstant());
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Verifies the signature and expiry of a token and returns its claims. Tokens verified
+     * recently are served from a cache whose entries never outlive the token itself.
+     */
+    public Optional<Claims> verify(String token) {
+        long start = System.nanoTime();
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            recordVerification(start, VerificationTimers::cached);
+            return Optional.of(cached);
+        }
+        Claims claims;
         try {
-            getClaims(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            claims = parseClaims(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            recordVerification(start, VerificationTimers::invalid);
+            return Optional.empty();
         }
+        verifiedTokens.put(token, claims);
+        recordVerification(start, VerificationTimers::verified);
+        return Optional.of(claims);
     }
 
-    public String getSubject(String token) {
-        return getClaims(token).getSubject();
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public CacheStats verifiedTokenStats() {
+        return verifiedTokens.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "verified-tokens");
+        timers = new VerificationTimers(
+                verificationTimer(registry, "cached"),
+                verificationTimer(registry, "verified"),
+                verificationTimer(registry, "invalid"));
+    }
+
+    private static Timer verificationTimer(MeterRegistry registry, String result) {
+        return Timer.builder("security.jwt.verification")
+                .description("Access token verification, by cache hit, signature check or rejection")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private void recordVerification(long startNanos, Function<VerificationTimers, Timer> result) {
+        VerificationTimers current = timers;
+        if (current != null) {
+            result.apply(current).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record VerificationTimers(Timer cached, Timer verified, Timer invalid) {
+    }
+
+    private record UntilTokenExpiry(long maxTtlNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remaining = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
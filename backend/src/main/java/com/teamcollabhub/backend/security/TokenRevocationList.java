@@ -0,0 +1,125 @@
+package com.teamcollabhub.backend.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access token ids, checked on every request without touching the database. A bloom
+ * filter answers the common "not revoked" case; hits are confirmed against the exact set. Rows
+ * revoked by other nodes are picked up by the periodic sync.
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration syncOverlap;
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private final Object filterLock = new Object();
+    private volatile BloomFilter filter = new BloomFilter(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private volatile Instant syncedUntil = Instant.EPOCH;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.security.revocation.sync-interval-ms:10000}") long syncIntervalMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.syncOverlap = Duration.ofMillis(syncIntervalMs);
+    }
+
+    public boolean isRevoked(UUID jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    @Transactional
+    public void revoke(UUID jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        revokedTokenRepository.insertIfAbsent(jti, expiresAt, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(jti, expiresAt);
+                }
+            });
+        } else {
+            remember(jti, expiresAt);
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.revocation.size", this, TokenRevocationList::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        List<RevokedToken> active = transactionTemplate.execute(status -> revokedTokenRepository.findByExpiresAtAfter(now));
+        active.forEach(token -> revoked.put(token.getJti(), token.getExpiresAt()));
+        syncedUntil = now;
+        rebuildFilter();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.sync-interval-ms:10000}",
+            initialDelayString = "${app.security.revocation.sync-interval-ms:10000}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = syncedUntil.minus(syncOverlap);
+        List<RevokedToken> recent = transactionTemplate.execute(status -> {
+            revokedTokenRepository.deleteExpired(now);
+            return revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+        });
+        recent.forEach(token -> remember(token.getJti(), token.getExpiresAt()));
+        syncedUntil = now;
+
+        boolean purged = revoked.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+        if (purged || revoked.size() > filter.capacity()) {
+            rebuildFilter();
+        }
+    }
+
+    private void remember(UUID jti, Instant expiresAt) {
+        synchronized (filterLock) {
+            revoked.put(jti, expiresAt);
+            filter.add(jti);
+        }
+    }
+
+    private void rebuildFilter() {
+        synchronized (filterLock) {
+            BloomFilter rebuilt = new BloomFilter(Math.max(MIN_CAPACITY, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::add);
+            filter = rebuilt;
+        }
+    }
+}
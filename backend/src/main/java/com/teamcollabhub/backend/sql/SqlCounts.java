@@ -0,0 +1,19 @@
+package com.teamcollabhub.backend.sql;
+
+/**
+ * Statements executed in one scope, usually one HTTP request. Batched statements count once per
+ * batch.
+ */
+public record SqlCounts(int selects, int inserts, int updates, int deletes, int other, long timeMs) {
+
+    static final SqlCounts NONE = new SqlCounts(0, 0, 0, 0, 0, 0);
+
+    public int total() {
+        return selects + inserts + updates + deletes + other;
+    }
+
+    String toHeaderValue() {
+        return "selects=" + selects + ";inserts=" + inserts + ";updates=" + updates + ";deletes=" + deletes
+                + ";other=" + other + ";time-ms=" + timeMs;
+    }
+}
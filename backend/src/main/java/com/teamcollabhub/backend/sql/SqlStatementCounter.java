@@ -0,0 +1,90 @@
+package com.teamcollabhub.backend.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Counts the statements each thread runs through the proxied data source. Counting happens inside
+ * a scope: {@link SqlStatementFilter} opens one per HTTP request, and statements run by scheduled
+ * jobs or async listeners outside a scope are ignored.
+ *
+ * <p>Integration tests can open a scope with {@link #reset()}, call an endpoint through MockMvc on
+ * the same thread and then check it with {@link #assertSelectCount(int)}; the filter joins a scope
+ * that is already open instead of replacing it.
+ */
+public final class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    public static void reset() {
+        CURRENT.set(new SqlStatistics());
+    }
+
+    public static SqlCounts current() {
+        SqlStatistics statistics = CURRENT.get();
+        return statistics == null ? SqlCounts.NONE : statistics.snapshot();
+    }
+
+    public static void assertSelectCount(int expected) {
+        assertCount("select", expected, current().selects());
+    }
+
+    public static void assertInsertCount(int expected) {
+        assertCount("insert", expected, current().inserts());
+    }
+
+    public static void assertUpdateCount(int expected) {
+        assertCount("update", expected, current().updates());
+    }
+
+    public static void assertDeleteCount(int expected) {
+        assertCount("delete", expected, current().deletes());
+    }
+
+    /**
+     * Opens a scope unless one is open already; returns {@code true} when the caller opened it
+     * and therefore has to {@link #close()} it.
+     */
+    static boolean open() {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        reset();
+        return true;
+    }
+
+    static SqlStatistics statistics() {
+        return CURRENT.get();
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        for (QueryInfo query : queries) {
+            String sql = query.getQuery();
+            statistics.record(QueryUtils.getQueryType(sql), sql);
+        }
+        statistics.addTime(execution.getElapsedTime());
+    }
+
+    private static void assertCount(String type, int expected, int actual) {
+        if (expected != actual) {
+            throw new AssertionError("Expected " + expected + " " + type + " statements but " + actual + " ran");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.teamcollabhub.backend.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the statements of each request. Requests over the statement or time threshold are logged,
+ * as is every statement repeated often enough to look like an N+1, and the count is recorded per
+ * route as {@code http.server.requests.sql.statements}.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final long timeThresholdMs;
+    private final int repeatThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, int statementThreshold, long timeThresholdMs,
+                              int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.timeThresholdMs = timeThresholdMs;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean opened = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatistics statistics = SqlStatementCounter.statistics();
+            if (opened) {
+                SqlStatementCounter.close();
+            }
+            report(request, statistics);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics statistics) {
+        SqlCounts counts = statistics.snapshot();
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run while serving a request")
+                .tag("method", request.getMethod())
+                .tag("uri", route != null ? route.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(counts.total());
+        if (counts.total() >= statementThreshold || counts.timeMs() >= timeThresholdMs) {
+            log.warn("{} {} ran {} SQL statements in {} ms ({})", request.getMethod(), request.getRequestURI(),
+                    counts.total(), counts.timeMs(), counts.toHeaderValue());
+        }
+        for (Map.Entry<String, Integer> repeated : statistics.repeated(repeatThreshold).entrySet()) {
+            log.warn("Possible N+1 in {} {}: {} executions of {}", request.getMethod(), request.getRequestURI(),
+                    repeated.getValue(), repeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.teamcollabhub.backend.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mutable counters for one scope. Only ever touched by the thread that owns the scope.
+ */
+final class SqlStatistics {
+
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private final int[] counts = new int[QueryType.values().length];
+    private final Map<String, Integer> executions = new HashMap<>();
+    private long timeMs;
+
+    void record(QueryType type, String sql) {
+        counts[type.ordinal()]++;
+        if (executions.size() < MAX_DISTINCT_STATEMENTS || executions.containsKey(sql)) {
+            executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void addTime(long elapsedMs) {
+        timeMs += elapsedMs;
+    }
+
+    SqlCounts snapshot() {
+        return new SqlCounts(counts[QueryType.SELECT.ordinal()], counts[QueryType.INSERT.ordinal()],
+                counts[QueryType.UPDATE.ordinal()], counts[QueryType.DELETE.ordinal()],
+                counts[QueryType.OTHER.ordinal()], timeMs);
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times with identical SQL, the usual shape
+     * of a lazy association loaded once per parent row.
+     */
+    Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executions.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
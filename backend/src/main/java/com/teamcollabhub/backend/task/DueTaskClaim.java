@@ -0,0 +1,14 @@
+package com.teamcollabhub.backend.task;
+
+import java.util.UUID;
+
+/**
+ * A task whose due reminder this node has claimed.
+ */
+public interface DueTaskClaim {
+    UUID getId();
+
+    UUID getAssignedTo();
+
+    String getTitle();
+}
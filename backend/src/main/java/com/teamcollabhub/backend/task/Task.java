@@ -52,6 +52,9 @@ public class Task {
 
     private Instant dueDate;
 
+    @Column(name = "due_reminder_sent_at")
+    private Instant dueReminderSentAt;
+
     @PrePersist
     public void prePersist() {
         Instant now = Instant.now();
@@ -164,4 +167,12 @@ public class Task {
     public void setDueDate(Instant dueDate) {
         this.dueDate = dueDate;
     }
+
+    public Instant getDueReminderSentAt() {
+        return dueReminderSentAt;
+    }
+
+    public void setDueReminderSentAt(Instant dueReminderSentAt) {
+        this.dueReminderSentAt = dueReminderSentAt;
+    }
 }
@@ -18,14 +18,12 @@ public class TaskController {
 
     @GetMapping
     public List<TaskResponse> getTasks() {
-        return taskService.findAll().stream()
-                .map(TaskMapper::toResponse)
-                .toList();
+        return taskService.findAll();
     }
 
     @GetMapping("/{id}")
     public TaskResponse getTask(@PathVariable UUID id) {
-        return TaskMapper.toResponse(taskService.getById(id));
+        return taskService.getResponse(id);
     }
 
     @PostMapping
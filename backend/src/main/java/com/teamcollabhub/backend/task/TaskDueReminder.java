@@ -0,0 +1,54 @@
+package com.teamcollabhub.backend.task;
+
+import com.teamcollabhub.backend.notification.NotificationEvent;
+import com.teamcollabhub.backend.notification.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class TaskDueReminder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+
+    public TaskDueReminder(TaskRepository taskRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.notifications.due-horizon-ms:86400000}") long horizonMs) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.horizon = Duration.ofMillis(horizonMs);
+    }
+
+    /**
+     * Every node runs this; each batch is claimed in a single statement that skips rows another node
+     * holds, and the notifications are only published once the claim has committed.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.due-scan-interval-ms:300000}",
+            initialDelayString = "${app.notifications.due-scan-interval-ms:300000}")
+    public void remindDueTasks() {
+        List<DueTaskClaim> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> {
+                Instant now = Instant.now();
+                return taskRepository.claimDueReminders(now, now.plus(horizon), BATCH_SIZE);
+            });
+            for (DueTaskClaim task : claimed) {
+                eventPublisher.publishEvent(new NotificationEvent(task.getAssignedTo(),
+                        NotificationType.TASK_DUE, task.getId(), task.getTitle()));
+            }
+        } while (claimed.size() == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.teamcollabhub.backend.task;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+public final class TaskFieldParser {
+
+    private TaskFieldParser() {
+    }
+
+    public static TaskPriority parsePriority(String priority) {
+        if (priority == null) {
+            return TaskPriority.MEDIUM;
+        }
+        try {
+            return TaskPriority.valueOf(priority.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return TaskPriority.MEDIUM;
+        }
+    }
+
+    public static TaskStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(status.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public static Instant parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            try {
+                LocalDate date = LocalDate.parse(value);
+                return date.atStartOfDay().toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -12,13 +12,38 @@ public final class TaskMapper {
                 task.getDescription(),
                 task.getEvent().getId(),
                 task.getColumn().getId(),
-                task.getPriority() != null ? task.getPriority().name().toLowerCase() : null,
+                toValue(task.getPriority()),
                 task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
                 task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
-                task.getStatus() != null ? task.getStatus().name().toLowerCase().replace('_', '-') : null,
+                toValue(task.getStatus()),
                 task.getDueDate()
         );
     }
+
+    public static TaskResponse toResponse(TaskRow row) {
+        return new TaskResponse(
+                row.id(),
+                row.title(),
+                row.description(),
+                row.eventId(),
+                row.columnId(),
+                toValue(row.priority()),
+                row.assignedTo(),
+                row.createdBy(),
+                row.createdAt(),
+                row.updatedAt(),
+                toValue(row.status()),
+                row.dueDate()
+        );
+    }
+
+    private static String toValue(TaskPriority priority) {
+        return priority != null ? priority.name().toLowerCase() : null;
+    }
+
+    private static String toValue(TaskStatus status) {
+        return status != null ? status.name().toLowerCase().replace('_', '-') : null;
+    }
 }
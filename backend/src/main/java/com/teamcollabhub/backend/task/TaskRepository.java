@@ -1,8 +1,55 @@
 package com.teamcollabhub.backend.task;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
+
+    String SELECT_ROW = """
+            SELECT new com.teamcollabhub.backend.task.TaskRow(t.id, t.title, t.description, t.event.id,
+                   t.column.id, t.priority, t.status, t.assignedTo.id, t.createdBy.id, t.createdAt,
+                   t.updatedAt, t.dueDate)
+            FROM Task t
+            """;
+
+    @Query(SELECT_ROW)
+    List<TaskRow> findAllRows();
+
+    @Query(SELECT_ROW + """
+            WHERE t.event.restricted = false
+               OR EXISTS (SELECT 1 FROM EventMember m WHERE m.eventId = t.event.id AND m.userId = :userId)
+            """)
+    List<TaskRow> findRowsVisibleTo(UUID userId);
+
+    @Query(SELECT_ROW + "WHERE t.id = :id")
+    Optional<TaskRow> findRowById(UUID id);
+
+    /**
+     * Marks up to {@code limit} assigned tasks due before {@code until} as reminded and returns them.
+     * Rows another node has locked are skipped, so each reminder is claimed exactly once.
+     */
+    @Query(value = """
+            UPDATE tasks SET due_reminder_sent_at = :now
+            WHERE id IN (SELECT id FROM tasks
+                         WHERE due_date BETWEEN :now AND :until
+                           AND due_reminder_sent_at IS NULL
+                           AND assigned_to IS NOT NULL
+                         ORDER BY due_date
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id, assigned_to AS "assignedTo", title
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    List<DueTaskClaim> claimDueReminders(@Param("now") Instant now,
+                                         @Param("until") Instant until,
+                                         @Param("limit") int limit);
 }
@@ -0,0 +1,22 @@
+package com.teamcollabhub.backend.task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Flat read model of a task, selected without loading the entity or its associations.
+ */
+public record TaskRow(
+        UUID id,
+        String title,
+        String description,
+        UUID eventId,
+        UUID columnId,
+        TaskPriority priority,
+        TaskStatus status,
+        UUID assignedTo,
+        UUID createdBy,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant dueDate
+) {}
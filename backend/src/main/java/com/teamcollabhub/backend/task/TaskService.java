@@ -3,17 +3,18 @@ package com.teamcollabhub.backend.task;
 import com.teamcollabhub.backend.column.BoardColumn;
 import com.teamcollabhub.backend.column.BoardColumnService;
 import com.teamcollabhub.backend.event.Event;
+import com.teamcollabhub.backend.event.EventAccess;
 import com.teamcollabhub.backend.event.EventService;
 import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import com.teamcollabhub.backend.notification.NotificationEvent;
+import com.teamcollabhub.backend.notification.NotificationType;
 import com.teamcollabhub.backend.user.User;
 import com.teamcollabhub.backend.user.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,25 +24,44 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final EventService eventService;
+    private final EventAccess eventAccess;
     private final BoardColumnService columnService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TaskService(TaskRepository taskRepository,
                        EventService eventService,
+                       EventAccess eventAccess,
                        BoardColumnService columnService,
-                       UserRepository userRepository) {
+                       UserRepository userRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.eventService = eventService;
+        this.eventAccess = eventAccess;
         this.columnService = columnService;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<Task> findAll() {
-        return taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<TaskResponse> findAll() {
+        UUID userId = eventAccess.restrictedUserId();
+        List<TaskRow> rows = userId == null ? taskRepository.findAllRows() : taskRepository.findRowsVisibleTo(userId);
+        return rows.stream().map(TaskMapper::toResponse).toList();
     }
 
+    @Transactional(readOnly = true)
+    public TaskResponse getResponse(UUID id) {
+        return taskRepository.findRowById(id)
+                .filter(row -> eventAccess.canAccess(row.eventId()))
+                .map(TaskMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+
+    @Transactional(readOnly = true)
     public Task getById(UUID id) {
         return taskRepository.findById(id)
+                .filter(task -> eventAccess.canAccess(task.getEvent().getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
     }
 
@@ -57,16 +77,18 @@ public class TaskService {
         task.setDescription(request.description());
         task.setEvent(event);
         task.setColumn(column);
-        task.setPriority(parsePriority(request.priority()));
-        task.setStatus(parseStatus(request.status()));
+        task.setPriority(TaskFieldParser.parsePriority(request.priority()));
+        task.setStatus(TaskFieldParser.parseStatus(request.status()));
         if (request.assignedTo() != null) {
             task.setAssignedTo(resolveUser(request.assignedTo()));
         }
         if (request.createdBy() != null) {
             task.setCreatedBy(resolveUser(request.createdBy()));
         }
-        task.setDueDate(parseInstant(request.dueDate()));
-        return taskRepository.save(task);
+        task.setDueDate(TaskFieldParser.parseInstant(request.dueDate()));
+        Task saved = taskRepository.save(task);
+        notifyAssignee(saved);
+        return saved;
     }
 
     public Task update(UUID id, TaskUpdateRequest request) {
@@ -93,66 +115,39 @@ public class TaskService {
             task.setColumn(column);
         }
         if (request.priority() != null) {
-            task.setPriority(parsePriority(request.priority()));
+            task.setPriority(TaskFieldParser.parsePriority(request.priority()));
         }
         if (request.status() != null) {
-            task.setStatus(parseStatus(request.status()));
+            task.setStatus(TaskFieldParser.parseStatus(request.status()));
         }
+        boolean reassigned = false;
         if (request.assignedTo() != null) {
+            reassigned = task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(request.assignedTo());
             task.setAssignedTo(resolveUser(request.assignedTo()));
         }
         if (request.createdBy() != null) {
             task.setCreatedBy(resolveUser(request.createdBy()));
         }
         if (request.dueDate() != null) {
-            task.setDueDate(parseInstant(request.dueDate()));
+            task.setDueDate(TaskFieldParser.parseInstant(request.dueDate()));
+            task.setDueReminderSentAt(null);
         }
         task.setUpdatedAt(Instant.now());
-        return taskRepository.save(task);
-    }
-
-    public void delete(UUID id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found");
+        Task saved = taskRepository.save(task);
+        if (reassigned) {
+            notifyAssignee(saved);
         }
-        taskRepository.deleteById(id);
+        return saved;
     }
 
-    private TaskPriority parsePriority(String priority) {
-        if (priority == null) {
-            return TaskPriority.MEDIUM;
-        }
-        try {
-            return TaskPriority.valueOf(priority.toUpperCase());
-        } catch (IllegalArgumentException ex) {
-            return TaskPriority.MEDIUM;
-        }
-    }
-
-    private TaskStatus parseStatus(String status) {
-        if (status == null) {
-            return null;
-        }
-        try {
-            return TaskStatus.valueOf(status.toUpperCase().replace('-', '_'));
-        } catch (IllegalArgumentException ex) {
-            return null;
-        }
+    public void delete(UUID id) {
+        taskRepository.delete(getById(id));
     }
 
-    private Instant parseInstant(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return Instant.parse(value);
-        } catch (DateTimeParseException ex) {
-            try {
-                LocalDate date = LocalDate.parse(value);
-                return date.atStartOfDay().toInstant(ZoneOffset.UTC);
-            } catch (DateTimeParseException ignored) {
-                return null;
-            }
+    private void notifyAssignee(Task task) {
+        if (task.getAssignedTo() != null) {
+            eventPublisher.publishEvent(new NotificationEvent(task.getAssignedTo().getId(),
+                    NotificationType.TASK_ASSIGNED, task.getId(), task.getTitle()));
         }
     }
 
@@ -0,0 +1,159 @@
+package com.teamcollabhub.backend.threads;
+
+import com.teamcollabhub.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits how many connections can be checked out of one pool at once and how many callers may
+ * queue for one. With a thread per request, thousands of virtual threads can otherwise pile up
+ * behind a pool of a few connections until they time out. Callers beyond the waiting limit, or
+ * that wait longer than the timeout, fail fast with a 503. A permit is held until the connection
+ * is closed.
+ */
+public class ConnectionAdmissionGate extends DelegatingDataSource implements MeterBinder, AutoCloseable {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final String name;
+    private final int permitCount;
+    private final Semaphore permits;
+    private final int maxWaiters;
+    private final long maxWaitMs;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConnectionAdmissionGate(String name, DataSource target, int permits, int maxWaiters, long maxWaitMs) {
+        super(target);
+        this.name = name;
+        this.permitCount = permits;
+        this.permits = new Semaphore(permits, true);
+        this.maxWaiters = maxWaiters;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getInUse() {
+        return permitCount - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.admission.waiting", this, ConnectionAdmissionGate::getWaiting)
+                .description("Callers waiting for permission to check out a connection")
+                .tag("pool", name)
+                .register(registry);
+        Gauge.builder("db.admission.in-use", this, ConnectionAdmissionGate::getInUse)
+                .description("Connections checked out through the admission gate")
+                .tag("pool", name)
+                .register(registry);
+        FunctionCounter.builder("db.admission.rejected", this, ConnectionAdmissionGate::getRejectedCount)
+                .description("Connection requests answered with 503 because the gate was saturated")
+                .tag("pool", name)
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            throw busy();
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw busy();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionAdmissionGate.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    private ServiceUnavailableException busy() {
+        rejected.incrementAndGet();
+        return new ServiceUnavailableException("The database is busy, please retry shortly", RETRY_AFTER_SECONDS);
+    }
+}
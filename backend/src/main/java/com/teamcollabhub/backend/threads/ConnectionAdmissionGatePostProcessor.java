@@ -0,0 +1,58 @@
+package com.teamcollabhub.backend.threads;
+
+import com.teamcollabhub.backend.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Puts a {@link ConnectionAdmissionGate} in front of every connection pool, each sized to its own
+ * pool. With replicas configured the application's data source only hands out lazy proxies, so
+ * the primary and replica pools behind it are gated instead of the data source itself.
+ */
+class ConnectionAdmissionGatePostProcessor implements BeanPostProcessor, MeterBinder {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final Environment environment;
+    private final List<ConnectionAdmissionGate> gates = new CopyOnWriteArrayList<>();
+
+    ConnectionAdmissionGatePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ReplicaRoutingDataSource routing) {
+            routing.decoratePools(pool -> gate(pool.getPoolName() != null ? pool.getPoolName() : beanName, pool));
+            return bean;
+        }
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionAdmissionGate)) {
+            return gate(beanName, dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gates.forEach(gate -> gate.bindTo(registry));
+    }
+
+    private ConnectionAdmissionGate gate(String name, DataSource pool) {
+        int permits = environment.getProperty("app.virtual-threads.admission.permits", Integer.class, 0);
+        if (permits <= 0) {
+            permits = pool instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        }
+        ConnectionAdmissionGate gate = new ConnectionAdmissionGate(name, pool, permits,
+                environment.getProperty("app.virtual-threads.admission.max-waiters", Integer.class, 1000),
+                environment.getProperty("app.virtual-threads.admission.max-wait-ms", Long.class, 2000L));
+        gates.add(gate);
+        return gate;
+    }
+}
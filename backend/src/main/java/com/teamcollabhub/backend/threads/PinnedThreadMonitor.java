@@ -0,0 +1,103 @@
+package com.teamcollabhub.backend.threads;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR events the JDK emits when a virtual thread blocks while pinned to its carrier,
+ * typically inside a {@code synchronized} block or a native frame. Pinned time is exported as a
+ * timer, and the first occurrence of each distinct stack is logged so the monitor can be found.
+ */
+public class PinnedThreadMonitor implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final int STACK_DEPTH = 16;
+    private static final int MAX_REPORTED_STACKS = 1000;
+
+    private final Duration threshold;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+    private final AtomicLong submitFailed = new AtomicLong();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.enable(SUBMIT_FAILED_EVENT);
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.incrementAndGet());
+            recording.startAsync();
+            stream = recording;
+        } catch (RuntimeException ex) {
+            log.warn("Virtual thread pinning cannot be monitored: {}", ex.getMessage());
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("jvm.threads.virtual.pinned", this,
+                        monitor -> monitor.pinnedCount.get(),
+                        monitor -> monitor.pinnedNanos.get(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(registry);
+        FunctionCounter.builder("jvm.threads.virtual.submit.failed", this, monitor -> monitor.submitFailed.get())
+                .description("Virtual threads that could not be started or unparked")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || reportedStacks.size() >= MAX_REPORTED_STACKS) {
+            return;
+        }
+        String frames = stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(PinnedThreadMonitor::format)
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedStacks.add(frames)) {
+            log.warn("Virtual thread pinned to its carrier for {} ms\n\tat {}", event.getDuration().toMillis(), frames);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -0,0 +1,34 @@
+package com.teamcollabhub.backend.threads;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Extras for {@code spring.threads.virtual.enabled=true}, which Spring Boot only honours on Java
+ * 21 or newer: pinning diagnostics and a bounded queue in front of each connection pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${app.virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(Duration.ofMillis(thresholdMs));
+        monitor.start();
+        return monitor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.virtual-threads.admission.enabled", havingValue = "true", matchIfMissing = true)
+    static ConnectionAdmissionGatePostProcessor connectionAdmissionGatePostProcessor(Environment environment) {
+        return new ConnectionAdmissionGatePostProcessor(environment);
+    }
+}
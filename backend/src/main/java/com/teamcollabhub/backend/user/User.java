@@ -1,7 +1,10 @@
 package com.teamcollabhub.backend.user;
 
+import com.teamcollabhub.backend.cache.CacheRegions;
 import com.teamcollabhub.backend.task.Task;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -16,7 +19,9 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_name_id", columnList = "name, id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class User implements UserDetails {
 
     @Id
@@ -0,0 +1,18 @@
+package com.teamcollabhub.backend.user;
+
+import java.util.UUID;
+
+public record UserChangedEvent(
+        UUID userId,
+        String name,
+        String email,
+        String department,
+        String avatar,
+        String role
+) {
+
+    public static UserChangedEvent of(User user) {
+        return new UserChangedEvent(user.getId(), user.getName(), user.getEmail(), user.getDepartment(),
+                user.getAvatar(), user.getRole());
+    }
+}
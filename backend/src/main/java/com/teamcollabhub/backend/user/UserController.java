@@ -1,32 +1,70 @@
 package com.teamcollabhub.backend.user;
 
+import com.teamcollabhub.backend.exception.BadRequestException;
+import com.teamcollabhub.backend.exception.ResourceNotFoundException;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
+    private final UserDirectory userDirectory;
+    private final UserSummaryCache userSummaryCache;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService,
+                          UserDirectory userDirectory,
+                          UserSummaryCache userSummaryCache) {
         this.userService = userService;
+        this.userDirectory = userDirectory;
+        this.userSummaryCache = userSummaryCache;
     }
 
     @GetMapping
-    public List<UserResponse> getAllUsers() {
-        return userService.findAll().stream()
-                .map(UserMapper::toResponse)
-                .toList();
+    public ResponseEntity<List<UserResponse>> getUsers(@RequestParam(required = false) String after,
+                                                       @RequestParam(required = false) Integer limit) {
+        int size = Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        List<UserResponse> users = userService.findPage(after != null ? UserCursor.decode(after) : null, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (users.size() == size) {
+            response.header(NEXT_CURSOR_HEADER, UserCursor.of(users.get(users.size() - 1)).encode());
+        }
+        return response.body(users);
+    }
+
+    @GetMapping(params = "q")
+    public List<UserSummaryResponse> searchUsers(@RequestParam String q,
+                                                 @RequestParam(required = false) Integer limit) {
+        int size = Math.max(1, Math.min(limit != null ? limit : DEFAULT_SEARCH_LIMIT, MAX_SEARCH_LIMIT));
+        return userDirectory.search(q, size);
+    }
+
+    @GetMapping("/batch")
+    public List<UserResponse> getUsersBatch(@RequestParam Set<UUID> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " ids can be requested at once");
+        }
+        return userSummaryCache.getAll(ids);
     }
 
     @GetMapping("/{id}")
     public UserResponse getUser(@PathVariable UUID id) {
-        return UserMapper.toResponse(userService.getById(id));
+        return userSummaryCache.get(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
     @PutMapping("/{id}")
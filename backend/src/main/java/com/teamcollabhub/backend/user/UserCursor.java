@@ -0,0 +1,34 @@
+package com.teamcollabhub.backend.user;
+
+import com.teamcollabhub.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over the (name, id) ordering of the user list.
+ */
+public record UserCursor(String name, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public static UserCursor of(UserResponse user) {
+        return new UserCursor(user.name(), user.id());
+    }
+
+    public static UserCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new UserCursor(decoded.substring(0, separator), UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((name + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
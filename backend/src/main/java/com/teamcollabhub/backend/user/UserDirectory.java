@@ -0,0 +1,143 @@
+package com.teamcollabhub.backend.user;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over user names, emails and departments for typeahead. Every token is
+ * stored in a sorted map as {@code token + '\0' + userId}, so a prefix query is a range scan that
+ * touches only the matching entries. Updates replace a single user's tokens in place.
+ * <p>
+ * Changes made on this node are applied as they commit. Changes made on other nodes show up at the
+ * latest on the next periodic full reload ({@code app.users.directory-refresh-interval-ms}). The
+ * reload selects profile columns only and is handed on as a {@link UserDirectoryReloadedEvent}, so
+ * the mention matcher resyncs from the same scan.
+ */
+@Component
+public class UserDirectory {
+
+    private static final char SEPARATOR = '\0';
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentSkipListMap<String, UUID> index = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<UUID, Indexed> users = new ConcurrentHashMap<>();
+
+    public UserDirectory(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<UserSummaryResponse> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        NavigableMap<String, UUID> range = index.subMap(prefix, true, prefix + MAX_CHAR, true);
+        Set<UUID> matched = new LinkedHashSet<>();
+        for (UUID userId : range.values()) {
+            if (matched.add(userId) && matched.size() >= limit) {
+                break;
+            }
+        }
+        List<UserSummaryResponse> results = new ArrayList<>(matched.size());
+        for (UUID userId : matched) {
+            Indexed indexed = users.get(userId);
+            if (indexed != null) {
+                results.add(indexed.summary());
+            }
+        }
+        return results;
+    }
+
+    public void put(UserSummaryResponse summary) {
+        List<String> keys = keys(summary);
+        users.compute(summary.id(), (id, previous) -> {
+            if (previous != null) {
+                previous.keys().forEach(key -> index.remove(key, id));
+            }
+            keys.forEach(key -> index.put(key, id));
+            return new Indexed(summary, keys);
+        });
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.users.directory-refresh-interval-ms:60000}",
+            initialDelayString = "${app.users.directory-refresh-interval-ms:60000}")
+    public void load() {
+        Set<UUID> stale = new HashSet<>(users.keySet());
+        List<UserRow> rows = userRepository.findAllRows();
+        for (UserRow row : rows) {
+            put(UserMapper.toSummary(row));
+            stale.remove(row.id());
+        }
+        stale.forEach(this::remove);
+        eventPublisher.publishEvent(new UserDirectoryReloadedEvent(rows));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        put(UserMapper.toSummary(event));
+    }
+
+    private void remove(UUID userId) {
+        users.computeIfPresent(userId, (id, previous) -> {
+            previous.keys().forEach(key -> index.remove(key, id));
+            return null;
+        });
+    }
+
+    private static List<String> keys(UserSummaryResponse summary) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addTokens(tokens, summary.name());
+        addTokens(tokens, summary.department());
+        String email = normalize(summary.email());
+        if (!email.isEmpty()) {
+            tokens.add(email);
+        }
+        List<String> keys = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            keys.add(token + SEPARATOR + summary.id());
+        }
+        return keys;
+    }
+
+    private static void addTokens(Set<String> tokens, String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        tokens.add(normalized);
+        for (String word : normalized.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Indexed(UserSummaryResponse summary, List<String> keys) {}
+}
@@ -0,0 +1,9 @@
+package com.teamcollabhub.backend.user;
+
+import java.util.List;
+
+/**
+ * Published after each full reload of the {@link UserDirectory}, so other per-node user indexes
+ * can resync from the same scan instead of reading the users table themselves.
+ */
+public record UserDirectoryReloadedEvent(List<UserRow> users) {}
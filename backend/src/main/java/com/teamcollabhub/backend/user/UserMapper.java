@@ -10,7 +10,7 @@ public final class UserMapper {
                 user.getId(),
                 user.getName(),
                 user.getEmail(),
-                defaultAvatar(user),
+                defaultAvatar(user.getAvatar(), user.getName()),
                 user.getRole(),
                 user.getDepartment(),
                 user.getActiveTasks(),
@@ -19,13 +19,64 @@ public final class UserMapper {
         );
     }
 
-    private static String defaultAvatar(User user) {
-        if (user.getAvatar() != null && !user.getAvatar().isBlank()) {
-            return user.getAvatar();
-        }
-        if (user.getName() == null || user.getName().isBlank()) {
+    public static UserResponse toResponse(UserRow row) {
+        return new UserResponse(
+                row.id(),
+                row.name(),
+                row.email(),
+                defaultAvatar(row.avatar(), row.name()),
+                row.role(),
+                row.department(),
+                row.activeTasks(),
+                row.completedTasks(),
+                row.joinedDate()
+        );
+    }
+
+    public static UserSummaryResponse toSummary(User user) {
+        return new UserSummaryResponse(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                defaultAvatar(user.getAvatar(), user.getName()),
+                user.getRole(),
+                user.getDepartment()
+        );
+    }
+
+    public static UserSummaryResponse toSummary(UserRow row) {
+        return new UserSummaryResponse(
+                row.id(),
+                row.name(),
+                row.email(),
+                defaultAvatar(row.avatar(), row.name()),
+                row.role(),
+                row.department()
+        );
+    }
+
+    public static UserSummaryResponse toSummary(UserChangedEvent event) {
+        return new UserSummaryResponse(
+                event.userId(),
+                event.name(),
+                event.email(),
+                defaultAvatar(event.avatar(), event.name()),
+                event.role(),
+                event.department()
+        );
+    }
+
+    public static String defaultAvatarUrl(String name) {
+        if (name == null || name.isBlank()) {
             return null;
         }
-        return "https://ui-avatars.com/api/?name=" + user.getName().replace(" ", "%20") + "&background=0D8ABC&color=fff";
+        return "https://ui-avatars.com/api/?name=" + name.replace(" ", "%20") + "&background=0D8ABC&color=fff";
+    }
+
+    private static String defaultAvatar(String avatar, String name) {
+        if (avatar != null && !avatar.isBlank()) {
+            return avatar;
+        }
+        return defaultAvatarUrl(name);
     }
 }
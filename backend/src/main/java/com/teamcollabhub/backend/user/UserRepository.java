@@ -1,11 +1,33 @@
 package com.teamcollabhub.backend.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    String SELECT_ROW = """
+            SELECT new com.teamcollabhub.backend.user.UserRow(u.id, u.name, u.email, u.avatar, u.role,
+                   u.department, u.activeTasks, u.completedTasks, u.joinedDate)
+            FROM User u
+            """;
+
+    @Query(SELECT_ROW)
+    List<UserRow> findAllRows();
+
+    @Query(SELECT_ROW + "ORDER BY u.name ASC, u.id ASC")
+    List<UserRow> findFirstPage(Pageable pageable);
+
+    @Query(SELECT_ROW + """
+            WHERE u.name > :name OR (u.name = :name AND u.id > :id)
+            ORDER BY u.name ASC, u.id ASC
+            """)
+    List<UserRow> findPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
 }
@@ -0,0 +1,19 @@
+package com.teamcollabhub.backend.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Profile columns of a user, selected without the password hash or task collections.
+ */
+public record UserRow(
+        UUID id,
+        String name,
+        String email,
+        String avatar,
+        String role,
+        String department,
+        int activeTasks,
+        int completedTasks,
+        Instant joinedDate
+) {}
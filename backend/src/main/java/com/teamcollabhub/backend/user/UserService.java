@@ -1,51 +1,88 @@
 package com.teamcollabhub.backend.user;
 
 import com.teamcollabhub.backend.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
-@Transactional
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher,
+                       TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<UserResponse> findPage(UserCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<UserRow> rows = after == null
+                ? userRepository.findFirstPage(page)
+                : userRepository.findPageAfter(after.name(), after.id(), page);
+        return rows.stream().map(UserMapper::toResponse).toList();
+    }
+
+    @Transactional(readOnly = true)
     public User getById(UUID id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    /**
+     * A new password is hashed before the transaction starts, so no connection is held while the
+     * caller waits for the password encoder.
+     */
     public User updateUser(UUID id, UpdateUserRequest request) {
-        User user = getById(id);
-        if (request.name() != null) {
-            user.setName(request.name());
-        }
-        if (request.department() != null) {
-            user.setDepartment(request.department());
-        }
-        if (request.role() != null) {
-            user.setRole(request.role());
-        }
-        if (request.avatar() != null) {
-            user.setAvatar(request.avatar());
-        }
-        if (request.password() != null && !request.password().isBlank()) {
-            user.setPassword(passwordEncoder.encode(request.password()));
-        }
-        return userRepository.save(user);
+        String encodedPassword = request.password() != null && !request.password().isBlank()
+                ? passwordEncoder.encode(request.password())
+                : null;
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            if (request.name() != null) {
+                boolean defaultAvatar = user.getAvatar() == null
+                        || user.getAvatar().equals(UserMapper.defaultAvatarUrl(user.getName()));
+                user.setName(request.name());
+                if (defaultAvatar) {
+                    user.setAvatar(UserMapper.defaultAvatarUrl(request.name()));
+                }
+            }
+            if (request.department() != null) {
+                user.setDepartment(request.department());
+            }
+            if (request.role() != null) {
+                user.setRole(request.role());
+            }
+            if (request.avatar() != null) {
+                user.setAvatar(request.avatar().isBlank() ? UserMapper.defaultAvatarUrl(user.getName()) : request.avatar());
+            }
+            if (encodedPassword != null) {
+                user.setPassword(encodedPassword);
+            }
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.of(saved));
+            return saved;
+        });
     }
 }
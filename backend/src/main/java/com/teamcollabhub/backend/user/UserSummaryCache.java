@@ -0,0 +1,93 @@
+package com.teamcollabhub.backend.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mapped {@link UserResponse}s shared by the single and batch user endpoints. Misses are loaded
+ * with one {@code findAllById} call per request; entries are dropped when the user changes.
+ * Loads run in a read-write transaction so they hit the primary, since a reload right after an
+ * invalidation must not cache a lagging replica's copy.
+ */
+@Component
+public class UserSummaryCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<UUID, UserResponse> cache;
+
+    public UserSummaryCache(UserRepository userRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.users.summary-cache.max-size:50000}") long maxSize,
+                            @Value("${app.users.summary-cache.ttl-ms:600000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserResponse> get(UUID userId) {
+        List<UserResponse> found = getAll(List.of(userId));
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    public List<UserResponse> getAll(Collection<UUID> userIds) {
+        Map<UUID, UserResponse> found = cache.getAll(userIds, this::load);
+        List<UserResponse> ordered = new ArrayList<>(found.size());
+        for (UUID userId : userIds) {
+            UserResponse response = found.get(userId);
+            if (response != null) {
+                ordered.add(response);
+            }
+        }
+        return ordered;
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-summaries");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private Map<UUID, UserResponse> load(Iterable<? extends UUID> userIds) {
+        List<UUID> ids = new ArrayList<>();
+        userIds.forEach(ids::add);
+        List<User> users = transactionTemplate.execute(status -> userRepository.findAllById(ids));
+        return users.stream()
+                .map(UserMapper::toResponse)
+                .collect(Collectors.toMap(UserResponse::id, Function.identity()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.teamcollabhub.backend.user;
+
+import java.util.UUID;
+
+public record UserSummaryResponse(
+        UUID id,
+        String name,
+        String email,
+        String avatar,
+        String role,
+        String department
+) {}
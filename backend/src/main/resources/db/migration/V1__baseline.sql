@@ -0,0 +1,217 @@
+-- The schema the application expects, written so that it also applies on top of a database that
+-- Hibernate's ddl-auto=update created at any earlier version: tables, columns, constraints and
+-- indexes are only added when missing. Such databases are baselined at version 0, so this script
+-- always runs. Constraint names match the ones Hibernate generated.
+
+create table if not exists users (
+    id uuid not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    avatar varchar(255),
+    role varchar(255),
+    department varchar(255),
+    active_tasks integer,
+    completed_tasks integer,
+    joined_date timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk6dotkott2kjsp8vw4d0m25fb7 unique (email)
+);
+
+create index if not exists idx_users_name_id on users (name, id);
+
+create table if not exists events (
+    id uuid not null,
+    title varchar(255) not null,
+    description text,
+    created_at timestamp(6) with time zone not null,
+    sort_order integer,
+    primary key (id)
+);
+
+alter table events add column if not exists restricted boolean default false not null;
+
+create table if not exists event_members (
+    id uuid not null,
+    event_id uuid not null,
+    user_id uuid not null,
+    role varchar(16) not null check (role in ('OWNER', 'MEMBER')),
+    created_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_event_members unique (event_id, user_id)
+);
+
+create index if not exists idx_event_members_user on event_members (user_id);
+
+create table if not exists columns (
+    id uuid not null,
+    title varchar(255) not null,
+    sort_order integer,
+    color varchar(255),
+    event_id uuid not null,
+    primary key (id),
+    constraint FKbvqx4chrx6rrg9osy5jfbm388 foreign key (event_id) references events
+);
+
+create table if not exists tasks (
+    id uuid not null,
+    title varchar(255) not null,
+    description text,
+    event_id uuid not null,
+    column_id uuid not null,
+    priority varchar(255) check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    status varchar(255) check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    assigned_to uuid,
+    created_by uuid,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    due_date timestamp(6) with time zone,
+    primary key (id),
+    constraint FKso3gaw278lqccjow3yxkck6wx foreign key (event_id) references events,
+    constraint FKleqsyhtos46wpnhh7a1lpn38q foreign key (column_id) references columns,
+    constraint FK2vjo8mbre3rvpbd6e7976b54m foreign key (assigned_to) references users,
+    constraint FK9dgm9t7wn4w3gh57h63g712lo foreign key (created_by) references users
+);
+
+alter table tasks add column if not exists due_reminder_sent_at timestamp(6) with time zone;
+
+create table if not exists chats (
+    id uuid not null,
+    name varchar(255),
+    type varchar(255) check (type in ('PERSONAL', 'GROUP')),
+    created_at timestamp(6) with time zone not null,
+    last_message varchar(255),
+    last_message_time timestamp(6) with time zone,
+    primary key (id)
+);
+
+alter table chats add column if not exists direct_user_low uuid;
+alter table chats add column if not exists direct_user_high uuid;
+
+do $$
+begin
+    if not exists (select 1 from pg_constraint where conname = 'uk_chats_direct_pair') then
+        alter table chats add constraint uk_chats_direct_pair unique (direct_user_low, direct_user_high);
+    end if;
+end $$;
+
+create table if not exists chat_participants (
+    chat_id uuid not null,
+    user_id uuid not null,
+    primary key (chat_id, user_id),
+    constraint FKn4feij8janlba38q59kl2ebgg foreign key (chat_id) references chats,
+    constraint FKbhdyxo0ndtbs1t49l28y21rkw foreign key (user_id) references users
+);
+
+create table if not exists chat_messages (
+    id uuid not null,
+    chat_id uuid not null,
+    user_id uuid not null,
+    message text not null,
+    timestamp timestamp(6) with time zone not null,
+    reply_to uuid,
+    primary key (id),
+    constraint FKt56nsqjwt7t4sian6vts9wg3t foreign key (chat_id) references chats,
+    constraint FK6f0y4l43ihmgfswkgy9yrtjkh foreign key (user_id) references users,
+    constraint FK8eq5fpdt4bttr0c92ag1di4nd foreign key (reply_to) references chat_messages
+);
+
+alter table chat_messages add column if not exists thread_root_id uuid;
+alter table chat_messages add column if not exists reply_count integer default 0 not null;
+alter table chat_messages add column if not exists last_reply_at timestamp(6) with time zone;
+
+create index if not exists idx_chat_messages_reply_to on chat_messages (reply_to);
+create index if not exists idx_chat_messages_thread_root on chat_messages (thread_root_id);
+
+create table if not exists chat_message_reaction_counts (
+    message_id uuid not null,
+    emoji varchar(32) not null,
+    reaction_count bigint not null,
+    primary key (message_id, emoji),
+    constraint FKtgyomdm2lhrty1jq3r87okdwn foreign key (message_id) references chat_messages
+);
+
+create table if not exists chat_message_reactions (
+    id uuid not null,
+    message_id uuid not null,
+    user_id uuid not null,
+    emoji varchar(32) not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_chat_message_reactions unique (message_id, user_id, emoji)
+);
+
+create table if not exists chat_attachments (
+    id uuid not null,
+    message_id uuid not null,
+    file_name varchar(255) not null,
+    content_type varchar(255) not null,
+    size bigint not null,
+    hash varchar(64) not null,
+    thumbnail_hash varchar(64),
+    created_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint FKiapn4tta73bdo003lo7j8smeb foreign key (message_id) references chat_messages
+);
+
+create index if not exists idx_chat_attachments_message on chat_attachments (message_id);
+
+create table if not exists mentions (
+    id uuid not null,
+    user_id uuid not null,
+    message_id uuid not null,
+    chat_id uuid not null,
+    author_id uuid not null,
+    excerpt varchar(200),
+    is_read boolean not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create index if not exists idx_mentions_user_created on mentions (user_id, created_at);
+create index if not exists idx_mentions_message on mentions (message_id);
+
+create table if not exists notifications (
+    id uuid not null,
+    user_id uuid not null,
+    type varchar(255) not null check (type in ('TASK_ASSIGNED', 'TASK_DUE', 'MENTION', 'DIRECT_MESSAGE')),
+    title varchar(255) not null,
+    reference_id uuid,
+    item_count integer not null,
+    is_read boolean not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    emailed_at timestamp(6) with time zone,
+    primary key (id)
+);
+
+create index if not exists idx_notifications_user_updated on notifications (user_id, updated_at);
+create index if not exists idx_notifications_pending_email on notifications (emailed_at, is_read);
+
+create table if not exists refresh_tokens (
+    id uuid not null,
+    token_hash varchar(64) not null,
+    family_id uuid not null,
+    user_id uuid not null,
+    access_token_id uuid,
+    access_expires_at timestamp(6) with time zone,
+    created_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone,
+    primary key (id),
+    constraint uko2mlirhldriil2y7krapq4frt unique (token_hash)
+);
+
+create index if not exists idx_refresh_tokens_family on refresh_tokens (family_id);
+create index if not exists idx_refresh_tokens_user on refresh_tokens (user_id);
+create index if not exists idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+create table if not exists revoked_tokens (
+    jti uuid not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null,
+    primary key (jti)
+);
+
+create index if not exists idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
+create index if not exists idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
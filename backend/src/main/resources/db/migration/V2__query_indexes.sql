@@ -0,0 +1,23 @@
+-- Indexes for the queries the API runs on every request, which ddl-auto never created. Built
+-- concurrently so that baselined databases keep taking writes while the migration runs; Flyway
+-- runs this script outside a transaction.
+
+-- Board loads: GET /api/tasks and GET /api/columns for the caller's events
+create index concurrently if not exists idx_tasks_event on tasks (event_id);
+create index concurrently if not exists idx_columns_event_order on columns (event_id, sort_order);
+
+-- Deleting a column loads and removes its tasks
+create index concurrently if not exists idx_tasks_column on tasks (column_id);
+
+-- Due date reminder sweep: only tasks that are assigned and not reminded yet
+create index concurrently if not exists idx_tasks_due_pending on tasks (due_date)
+    where due_reminder_sent_at is null and assigned_to is not null;
+
+-- Message lists and their attachments and reactions, in timestamp order
+create index concurrently if not exists idx_chat_messages_chat_timestamp on chat_messages (chat_id, timestamp);
+
+-- Unread lists and badge counts
+create index concurrently if not exists idx_mentions_user_unread on mentions (user_id, created_at)
+    where not is_read;
+create index concurrently if not exists idx_notifications_user_unread on notifications (user_id, updated_at)
+    where not is_read;
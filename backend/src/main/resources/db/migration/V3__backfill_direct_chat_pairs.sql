@@ -0,0 +1,61 @@
+-- Direct chats are looked up by their (direct_user_low, direct_user_high) pair, but personal chats
+-- created before the pair existed have it unset, so opening one created a second chat. Every
+-- personal chat with exactly two participants gets its pair; where several chats share a pair,
+-- the one that already has it (or else the oldest) is kept and the others are merged into it.
+
+create temporary table direct_chat_pairs on commit drop as
+select c.id as chat_id,
+       (array_agg(p.user_id order by p.user_id))[1] as user_low,
+       (array_agg(p.user_id order by p.user_id))[2] as user_high,
+       c.direct_user_low is not null as paired,
+       c.created_at
+from chats c
+join chat_participants p on p.chat_id = c.id
+where c.type = 'PERSONAL'
+group by c.id
+having count(*) = 2;
+
+create temporary table direct_chat_merges on commit drop as
+select chat_id, keep_id
+from (select chat_id,
+             first_value(chat_id) over (partition by user_low, user_high
+                                        order by paired desc, created_at, chat_id) as keep_id
+      from direct_chat_pairs) pairs
+where chat_id <> keep_id;
+
+-- Move everything that points at a duplicate over to the chat that is kept
+update chat_messages m set chat_id = d.keep_id
+from direct_chat_merges d
+where m.chat_id = d.chat_id;
+
+update mentions m set chat_id = d.keep_id
+from direct_chat_merges d
+where m.chat_id = d.chat_id;
+
+update notifications n set reference_id = d.keep_id
+from direct_chat_merges d
+where n.type = 'DIRECT_MESSAGE' and n.reference_id = d.chat_id;
+
+update chats c set last_message = latest.last_message, last_message_time = latest.last_message_time
+from (select distinct on (keep_id) keep_id, x.last_message, x.last_message_time
+      from (select keep_id, keep_id as chat_id from direct_chat_merges
+            union
+            select keep_id, chat_id from direct_chat_merges) g
+      join chats x on x.id = g.chat_id
+      where x.last_message_time is not null
+      order by keep_id, x.last_message_time desc) latest
+where c.id = latest.keep_id;
+
+delete from chat_participants p
+using direct_chat_merges d
+where p.chat_id = d.chat_id;
+
+delete from chats c
+using direct_chat_merges d
+where c.id = d.chat_id;
+
+update chats c set direct_user_low = p.user_low, direct_user_high = p.user_high
+from direct_chat_pairs p
+where c.id = p.chat_id
+  and not p.paired
+  and not exists (select 1 from direct_chat_merges d where d.chat_id = p.chat_id);
@@ -0,0 +1,30 @@
+-- Replies posted before threads existed have no thread_root_id, so they are missing from their
+-- root's reply_count and last_reply_at and are not found as part of any thread. Every reply gets
+-- the root of its reply_to chain, and the counters of all roots are recomputed from the result.
+
+with recursive tree as (
+    select id, id as root_id
+    from chat_messages
+    where reply_to is null
+    union all
+    select m.id, t.root_id
+    from chat_messages m
+    join tree t on m.reply_to = t.id
+)
+update chat_messages m set thread_root_id = t.root_id
+from tree t
+where m.id = t.id
+  and m.id <> t.root_id
+  and m.thread_root_id is distinct from t.root_id;
+
+update chat_messages r set reply_count = s.replies, last_reply_at = s.last_reply_at
+from (select thread_root_id, count(*) as replies, max(timestamp) as last_reply_at
+      from chat_messages
+      where thread_root_id is not null
+      group by thread_root_id) s
+where r.id = s.thread_root_id
+  and (r.reply_count <> s.replies or r.last_reply_at is distinct from s.last_reply_at);
+
+update chat_messages r set reply_count = 0, last_reply_at = null
+where (r.reply_count <> 0 or r.last_reply_at is not null)
+  and not exists (select 1 from chat_messages c where c.thread_root_id = r.id);
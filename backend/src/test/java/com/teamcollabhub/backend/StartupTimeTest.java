@@ -0,0 +1,41 @@
+package com.teamcollabhub.backend;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails when the application context takes noticeably longer to become ready, for example after
+ * a change that adds eager work at startup. The time is the one exported as
+ * {@code application.ready.time}. Its own database URL keeps this context out of the test
+ * context cache, so it always starts from scratch. The default bound leaves room for a cold JVM
+ * on a single core (about 25s) and can be tightened with {@code -Dstartup.max-seconds};
+ * {@code startup-time.sh} measures the packaged application more precisely.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+@ActiveProfiles("test")
+class StartupTimeTest {
+
+    private static final Duration MAX_STARTUP = Duration.ofSeconds(Long.getLong("startup.max-seconds", 60));
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void contextBecomesReadyWithinBound() {
+        TimeGauge ready = meterRegistry.get("application.ready.time").timeGauge();
+        Duration startup = Duration.ofMillis((long) ready.value(TimeUnit.MILLISECONDS));
+
+        assertThat(startup).as("time until the application context was ready")
+                .isPositive()
+                .isLessThan(MAX_STARTUP);
+    }
+}
@@ -0,0 +1,124 @@
+package com.teamcollabhub.backend.auth;
+
+import com.teamcollabhub.backend.security.IssuedToken;
+import com.teamcollabhub.backend.security.JwtTokenProvider;
+import com.teamcollabhub.backend.security.TokenRevocationList;
+import com.teamcollabhub.backend.user.User;
+import com.teamcollabhub.backend.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final long GRACE_MS = 5000;
+
+    private final List<RefreshToken> tokens = new ArrayList<>();
+    private final TokenRevocationList revocationList = mock(TokenRevocationList.class);
+    private RefreshTokenService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            tokens.add(token);
+            return token;
+        });
+        when(repository.findByTokenHash(anyString())).thenAnswer(invocation -> tokens.stream()
+                .filter(token -> token.getTokenHash().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(repository.findByFamilyId(any())).thenAnswer(invocation -> tokens.stream()
+                .filter(token -> token.getFamilyId().equals(invocation.getArgument(0)))
+                .toList());
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("Alice");
+        user.setEmail("alice@example.com");
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.issue(anyString(), anyString())).thenAnswer(invocation ->
+                new IssuedToken("access-" + UUID.randomUUID(), UUID.randomUUID(), Instant.now().plusSeconds(900)));
+
+        service = new RefreshTokenService(repository, userRepository, jwtTokenProvider, revocationList,
+                Duration.ofDays(30).toMillis(), GRACE_MS);
+    }
+
+    @Test
+    void rotationReplacesTheToken() {
+        String first = service.issue(user).refreshToken();
+
+        String second = service.rotate(first).refreshToken();
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens.get(0).getRevokedAt()).isNotNull();
+        assertThat(tokens.get(1).getRevokedAt()).isNull();
+        assertThat(tokens.get(1).getFamilyId()).isEqualTo(tokens.get(0).getFamilyId());
+    }
+
+    @Test
+    void reuseWithinGraceWindowIssuesSibling() {
+        String first = service.issue(user).refreshToken();
+        String rotated = service.rotate(first).refreshToken();
+
+        String sibling = service.rotate(first).refreshToken();
+
+        assertThat(sibling).isNotEqualTo(rotated);
+        verify(revocationList, never()).revoke(any(), any());
+        assertThat(service.rotate(rotated).refreshToken()).isNotBlank();
+        assertThat(service.rotate(sibling).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    void reuseAfterGraceWindowRevokesFamily() {
+        String first = service.issue(user).refreshToken();
+        String rotated = service.rotate(first).refreshToken();
+        tokens.get(0).setRevokedAt(Instant.now().minusMillis(GRACE_MS + 1000));
+
+        assertThatThrownBy(() -> service.rotate(first))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("already been used");
+
+        assertThat(tokens).allSatisfy(token -> assertThat(token.getRevokedAt()).isNotNull());
+        verify(revocationList).revoke(tokens.get(1).getAccessTokenId(), tokens.get(1).getAccessExpiresAt());
+        assertThatThrownBy(() -> service.rotate(rotated)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void reuseAfterLogoutIsRejectedWithinGraceWindow() {
+        String first = service.issue(user).refreshToken();
+        String rotated = service.rotate(first).refreshToken();
+        service.revoke(rotated);
+
+        assertThatThrownBy(() -> service.rotate(first)).isInstanceOf(BadCredentialsException.class);
+        assertThat(tokens).hasSize(2);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> service.rotate("not-a-token"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Invalid");
+    }
+}
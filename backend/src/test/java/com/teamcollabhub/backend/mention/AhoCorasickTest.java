@@ -0,0 +1,53 @@
+package com.teamcollabhub.backend.mention;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @Test
+    void reportsOverlappingAndNestedMatches() {
+        AhoCorasick<String> automaton = AhoCorasick.build(
+                Map.of("he", "he", "she", "she", "his", "his", "hers", "hers"));
+
+        assertThat(scan(automaton, "ushers")).containsExactlyInAnyOrder(
+                "she@1-4", "he@2-4", "hers@2-6");
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        AhoCorasick<String> automaton = AhoCorasick.build(Map.of("abcd", "abcd", "bce", "bce"));
+
+        assertThat(scan(automaton, "abce")).containsExactly("bce@1-4");
+    }
+
+    @Test
+    void reportsRepeatedMatches() {
+        AhoCorasick<String> automaton = AhoCorasick.build(Map.of("aa", "aa"));
+
+        assertThat(scan(automaton, "aaaa")).containsExactly("aa@0-2", "aa@1-3", "aa@2-4");
+    }
+
+    @Test
+    void matchesIgnoringCase() {
+        AhoCorasick<String> automaton = AhoCorasick.build(Map.of("@Ann", "ann"));
+
+        assertThat(scan(automaton, "hi @aNN")).containsExactly("ann@3-7");
+    }
+
+    @Test
+    void emptyAutomatonMatchesNothing() {
+        assertThat(scan(AhoCorasick.empty(), "anything")).isEmpty();
+    }
+
+    private static List<String> scan(AhoCorasick<String> automaton, String text) {
+        List<String> matches = new ArrayList<>();
+        automaton.scan(text, (start, end, value) -> matches.add(value + "@" + start + "-" + end));
+        return matches;
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamcollabhub.backend.mention;
+
+import com.teamcollabhub.backend.user.UserChangedEvent;
+import com.teamcollabhub.backend.user.UserDirectoryReloadedEvent;
+import com.teamcollabhub.backend.user.UserRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MentionMatcherTest {
+
+    private final MentionMatcher matcher = new MentionMatcher();
+    private final UUID ann = UUID.randomUUID();
+    private final UUID annLee = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        matcher.onUserChanged(new UserChangedEvent(ann, "Ann", "ann@example.com", null, null, "user"));
+        matcher.onUserChanged(new UserChangedEvent(annLee, "Ann Lee", "lee@example.com", null, null, "user"));
+        matcher.onUserChanged(new UserChangedEvent(bob, "Bob", "bob@example.com", null, null, "user"));
+        matcher.rebuildIfDirty();
+    }
+
+    @Test
+    void matchesNamesAndEmailsAtWordBoundaries() {
+        assertThat(matcher.findMentionedUsers("thanks @ann, and @BOB@example.com!")).containsExactlyInAnyOrder(ann, bob);
+    }
+
+    @Test
+    void ignoresMatchesInsideLongerWords() {
+        assertThat(matcher.findMentionedUsers("@annabel and @bobby")).isEmpty();
+        assertThat(matcher.findMentionedUsers("mail me at x@bob")).isEmpty();
+    }
+
+    @Test
+    void prefersTheLongestMatchAtAPosition() {
+        assertThat(matcher.findMentionedUsers("@Ann Lee can you look?")).containsExactly(annLee);
+        assertThat(matcher.findMentionedUsers("@Ann Leeds")).containsExactly(ann);
+    }
+
+    @Test
+    void renamedUserIsMatchedUnderTheNewNameAfterRebuild() {
+        matcher.onUserChanged(new UserChangedEvent(bob, "Robert", "bob@example.com", null, null, "user"));
+        matcher.rebuildIfDirty();
+
+        assertThat(matcher.findMentionedUsers("@bob")).isEmpty();
+        assertThat(matcher.findMentionedUsers("@robert")).containsExactly(bob);
+    }
+
+    @Test
+    void directoryReloadDropsUsersThatAreGone() {
+        matcher.onDirectoryReloaded(new UserDirectoryReloadedEvent(List.of(
+                new UserRow(ann, "Ann", "ann@example.com", null, "user", null, 0, 0, Instant.now()))));
+        matcher.rebuildIfDirty();
+
+        assertThat(matcher.findMentionedUsers("@ann @bob")).containsExactly(ann);
+    }
+}
@@ -0,0 +1,76 @@
+package com.teamcollabhub.backend.presence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PresenceTrackerTest {
+
+    private final PresenceTracker<String> tracker = new PresenceTracker<>(new TimerWheel<>(100, 8, 0), 2);
+
+    @Test
+    void keyExpiresAfterItsDeadline() {
+        assertThat(tracker.touch("alice", 300)).isTrue();
+
+        assertThat(expire(299)).isEmpty();
+        assertThat(tracker.contains("alice")).isTrue();
+        assertThat(expire(300)).containsExactly("alice");
+        assertThat(tracker.contains("alice")).isFalse();
+    }
+
+    @Test
+    void touchExtendsTheDeadlineWithoutRescheduling() {
+        assertThat(tracker.touch("alice", 300)).isTrue();
+        assertThat(tracker.touch("alice", 800)).isFalse();
+
+        assertThat(expire(500)).isEmpty();
+        assertThat(tracker.contains("alice")).isTrue();
+        assertThat(expire(800)).containsExactly("alice");
+    }
+
+    @Test
+    void deadlineBeyondOneRotationIsRescheduledUntilDue() {
+        assertThat(tracker.touch("alice", 1000)).isTrue();
+
+        for (long now = 100; now < 1000; now += 100) {
+            assertThat(expire(now)).isEmpty();
+        }
+        assertThat(expire(1000)).containsExactly("alice");
+    }
+
+    @Test
+    void removedKeyDoesNotExpireLater() {
+        tracker.touch("alice", 300);
+
+        assertThat(tracker.remove("alice")).isTrue();
+        assertThat(tracker.remove("alice")).isFalse();
+        assertThat(expire(1000)).isEmpty();
+    }
+
+    @Test
+    void touchAfterExpiryStartsAgain() {
+        tracker.touch("alice", 300);
+        expire(300);
+
+        assertThat(tracker.touch("alice", 900)).isTrue();
+        assertThat(expire(900)).containsExactly("alice");
+    }
+
+    @Test
+    void newKeysAreIgnoredWhenFull() {
+        tracker.touch("alice", 300);
+        tracker.touch("bob", 300);
+
+        assertThat(tracker.touch("carol", 300)).isFalse();
+        assertThat(tracker.contains("carol")).isFalse();
+    }
+
+    private List<String> expire(long now) {
+        List<String> expired = new ArrayList<>();
+        tracker.expire(now, expired::add);
+        return expired;
+    }
+}
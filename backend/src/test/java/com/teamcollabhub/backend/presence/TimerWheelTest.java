@@ -0,0 +1,74 @@
+package com.teamcollabhub.backend.presence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimerWheelTest {
+
+    private static final long TICK = 100;
+
+    private final TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+
+    @Test
+    void itemIsHandedBackOnceItsTickHasPassed() {
+        wheel.schedule("a", 250);
+
+        assertThat(advance(199)).isEmpty();
+        assertThat(advance(250)).containsExactly("a");
+        assertThat(advance(1000)).isEmpty();
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextTick() {
+        advance(500);
+        wheel.schedule("late", 100);
+
+        assertThat(advance(599)).isEmpty();
+        assertThat(advance(600)).containsExactly("late");
+    }
+
+    @Test
+    void itemMoreThanOneRotationAwayComesBackEarly() {
+        // 8 slots of 100 ms: tick 10 shares a slot with tick 2
+        wheel.schedule("far", 1000);
+
+        assertThat(advance(250)).containsExactly("far");
+    }
+
+    @Test
+    void rescheduledItemFiresAtItsNewDeadline() {
+        wheel.schedule("a", 200);
+        assertThat(advance(200)).containsExactly("a");
+
+        wheel.schedule("a", 700);
+        assertThat(advance(600)).isEmpty();
+        assertThat(advance(700)).containsExactly("a");
+    }
+
+    @Test
+    void longPauseVisitsEverySlotOnce() {
+        for (int i = 1; i <= 8; i++) {
+            wheel.schedule("item" + i, i * TICK);
+        }
+
+        assertThat(advance(60_000)).hasSize(8);
+        assertThat(advance(120_000)).isEmpty();
+    }
+
+    @Test
+    void rejectsNonPositiveTick() {
+        assertThatThrownBy(() -> new TimerWheel<String>(0, 8, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> advance(long now) {
+        List<String> due = new ArrayList<>();
+        wheel.advance(now, due::add);
+        return due;
+    }
+}
@@ -0,0 +1,96 @@
+package com.teamcollabhub.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void fullBucketAllowsABurstOfCapacity() {
+        RateLimiter limiter = limiter(new RateLimitProperties.Limit(5, 1));
+        RateLimiter.Rule rule = limiter.resolve("GET", "/api/tasks");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(rule, "client", START)).isZero();
+        }
+        assertThat(limiter.tryAcquire(rule, "client", START)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void tokensRefillAtTheConfiguredRate() {
+        RateLimiter limiter = limiter(new RateLimitProperties.Limit(2, 4));
+        RateLimiter.Rule rule = limiter.resolve("GET", "/api/tasks");
+        limiter.tryAcquire(rule, "client", START);
+        limiter.tryAcquire(rule, "client", START);
+
+        assertThat(limiter.tryAcquire(rule, "client", START + SECOND / 8)).isEqualTo(SECOND / 8);
+        assertThat(limiter.tryAcquire(rule, "client", START + SECOND / 4)).isZero();
+        assertThat(limiter.tryAcquire(rule, "client", START + SECOND / 4)).isPositive();
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToCapacity() {
+        RateLimiter limiter = limiter(new RateLimitProperties.Limit(3, 10));
+        RateLimiter.Rule rule = limiter.resolve("GET", "/api/tasks");
+        limiter.tryAcquire(rule, "client", START);
+
+        long later = START + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(rule, "client", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire(rule, "client", later)).isPositive();
+    }
+
+    @Test
+    void clientsAndRoutesHaveSeparateBuckets() {
+        RateLimitProperties properties = properties(new RateLimitProperties.Limit(1, 1),
+                List.of(new RateLimitProperties.Route("POST", "/api/auth/login", 1, 1)));
+        RateLimiter limiter = new RateLimiter(properties);
+        RateLimiter.Rule login = limiter.resolve("POST", "/api/auth/login");
+        RateLimiter.Rule other = limiter.resolve("GET", "/api/auth/login");
+
+        assertThat(limiter.tryAcquire(login, "alice", START)).isZero();
+        assertThat(limiter.tryAcquire(login, "alice", START)).isPositive();
+        assertThat(limiter.tryAcquire(login, "bob", START)).isZero();
+        assertThat(limiter.tryAcquire(other, "alice", START)).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveRefill() {
+        assertThatThrownBy(() -> limiter(new RateLimitProperties.Limit(10, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("app.rate-limit.defaults.refill-per-second");
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new RateLimiter(properties(new RateLimitProperties.Limit(10, 1),
+                List.of(new RateLimitProperties.Route(null, "/api/**", 0, 1)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("app.rate-limit.routes[0].capacity");
+    }
+
+    @Test
+    void rejectsBurstThatOverflows() {
+        assertThatThrownBy(() -> limiter(new RateLimitProperties.Limit(Long.MAX_VALUE, 0.001)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RateLimiter limiter(RateLimitProperties.Limit defaults) {
+        return new RateLimiter(properties(defaults, List.of()));
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.Limit defaults,
+                                                  List<RateLimitProperties.Route> routes) {
+        return new RateLimitProperties(true, 1000, Duration.ofMinutes(10), defaults, routes);
+    }
+}
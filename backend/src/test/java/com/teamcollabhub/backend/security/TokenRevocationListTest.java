@@ -0,0 +1,130 @@
+package com.teamcollabhub.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(repository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 10_000);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        UUID jti = UUID.randomUUID();
+
+        revocationList.revoke(jti, inMinutes(5));
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID())).isFalse();
+        verify(repository).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void expiredTokenIsNotRecorded() {
+        UUID jti = UUID.randomUUID();
+
+        revocationList.revoke(jti, Instant.now().minusSeconds(1));
+
+        assertThat(revocationList.isRevoked(jti)).isFalse();
+        verify(repository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void revocationInsideATransactionTakesEffectOnCommit() {
+        UUID jti = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        revocationList.revoke(jti, inMinutes(5));
+        assertThat(revocationList.isRevoked(jti)).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    void loadAndSyncPickUpRevocationsFromOtherNodes() {
+        UUID loaded = UUID.randomUUID();
+        UUID synced = UUID.randomUUID();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(token(loaded, inMinutes(5))));
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(token(synced, inMinutes(5))));
+
+        revocationList.load();
+        assertThat(revocationList.isRevoked(loaded)).isTrue();
+        assertThat(revocationList.isRevoked(synced)).isFalse();
+
+        revocationList.sync();
+        assertThat(revocationList.isRevoked(synced)).isTrue();
+    }
+
+    @Test
+    void growingPastTheFilterCapacityKeepsEveryRevocation() {
+        List<UUID> revoked = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID jti = UUID.randomUUID();
+            revocationList.revoke(jti, inMinutes(5));
+            revoked.add(jti);
+        }
+
+        revocationList.sync();
+
+        assertThat(revoked).allMatch(revocationList::isRevoked);
+        assertThat(revocationList.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void expiredRevocationsArePurgedOnSync() throws InterruptedException {
+        UUID jti = UUID.randomUUID();
+        revocationList.revoke(jti, Instant.now().plusMillis(50));
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+
+        Thread.sleep(100);
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked(jti)).isFalse();
+        assertThat(revocationList.size()).isZero();
+    }
+
+    private static Instant inMinutes(long minutes) {
+        return Instant.now().plus(Duration.ofMinutes(minutes));
+    }
+
+    private static RevokedToken token(UUID jti, Instant expiresAt) {
+        RevokedToken token = new RevokedToken();
+        token.setJti(jti);
+        token.setExpiresAt(expiresAt);
+        token.setRevokedAt(Instant.now());
+        return token;
+    }
+}
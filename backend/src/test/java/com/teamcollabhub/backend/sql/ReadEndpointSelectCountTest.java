@@ -0,0 +1,149 @@
+package com.teamcollabhub.backend.sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of selects the main read endpoints run, so that a change which makes one of
+ * them load rows per item fails here instead of in production. Every endpoint is called once to
+ * warm the principal, membership and user caches; the second call is the one that is counted.
+ * The fixture has several rows per list so that per-row queries would show up in the counts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadEndpointSelectCountTest {
+
+    private static final int EVENTS = 3;
+    private static final int COLUMNS_PER_EVENT = 2;
+    private static final int TASKS_PER_COLUMN = 3;
+    private static final int CHATS = 3;
+    private static final int MESSAGES_PER_CHAT = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private String chatId;
+
+    @BeforeAll
+    void createFixture() throws Exception {
+        JsonNode owner = register("owner@example.com");
+        JsonNode member = register("member@example.com");
+        token = owner.get("token").asText();
+        String ownerId = owner.at("/user/id").asText();
+        String memberId = member.at("/user/id").asText();
+
+        for (int e = 0; e < EVENTS; e++) {
+            String eventId = create("/api/events", Map.of("title", "Event " + e, "order", e));
+            for (int c = 0; c < COLUMNS_PER_EVENT; c++) {
+                String columnId = create("/api/columns", Map.of("title", "Column " + c, "eventId", eventId, "order", c));
+                for (int t = 0; t < TASKS_PER_COLUMN; t++) {
+                    create("/api/tasks", Map.of("title", "Task " + t, "eventId", eventId, "columnId", columnId,
+                            "assignedTo", t % 2 == 0 ? ownerId : memberId, "createdBy", ownerId));
+                }
+            }
+        }
+
+        List<String> chatIds = new ArrayList<>();
+        for (int c = 0; c < CHATS; c++) {
+            String id = create("/api/chats",
+                    Map.of("name", "Chat " + c, "type", "GROUP", "participants", List.of(ownerId, memberId)));
+            for (int m = 0; m < MESSAGES_PER_CHAT; m++) {
+                create("/api/chats/" + id + "/messages",
+                        Map.of("userId", m % 2 == 0 ? ownerId : memberId, "message", "Message " + m));
+            }
+            chatIds.add(id);
+        }
+        chatId = chatIds.get(0);
+    }
+
+    @Test
+    void tasks() throws Exception {
+        assertSelects(get("/api/tasks"), EVENTS * COLUMNS_PER_EVENT * TASKS_PER_COLUMN, 1);
+    }
+
+    @Test
+    void columns() throws Exception {
+        assertSelects(get("/api/columns"), EVENTS * COLUMNS_PER_EVENT, 1);
+    }
+
+    @Test
+    void events() throws Exception {
+        assertSelects(get("/api/events"), EVENTS, 1);
+    }
+
+    @Test
+    void chats() throws Exception {
+        // chats, then their participants
+        assertSelects(get("/api/chats"), CHATS, 2);
+    }
+
+    @Test
+    void messages() throws Exception {
+        // messages, their attachments and their reaction counts
+        assertSelects(get("/api/chats/" + chatId + "/messages"), MESSAGES_PER_CHAT, 3);
+    }
+
+    @Test
+    void users() throws Exception {
+        assertSelects(get("/api/users"), 2, 1);
+    }
+
+    private void assertSelects(MockHttpServletRequestBuilder request, int expectedItems, int expectedSelects)
+            throws Exception {
+        request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        SqlStatementCounter.reset();
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expectedItems));
+        SqlStatementCounter.assertSelectCount(expectedSelects);
+    }
+
+    private JsonNode register(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(
+                Map.of("name", email, "email", email, "password", "secret123", "department", "Engineering"));
+        String response = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private String create(String path, Map<String, ?> body) throws Exception {
+        String response = mockMvc.perform(post(path)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
+}
@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Boots the application several times with and without the class data sharing archive and prints
+# the startup time Spring Boot reports ("process running for", so JVM startup is included). Needs
+# the archive from `mvn -Pcds package` and a database with the schema already migrated, so the
+# runs measure what a rolling deploy sees.
+#
+#   ./startup-time.sh
+#   RUNS=10 ./startup-time.sh --spring.datasource.url=jdbc:postgresql://db:5432/teamcollab
+#
+# Extra arguments are passed to the application.
+set -euo pipefail
+
+cd "$(dirname "$0")/target/cds" 2>/dev/null && [[ -f application.jsa ]] || {
+  echo "Build the archive first: mvn -Pcds package -DskipTests" >&2
+  exit 1
+}
+jar=$(ls teamcollab-hub-backend-*.jar)
+runs=${RUNS:-5}
+log=$(mktemp)
+trap 'rm -f "$log"' EXIT
+
+boot() {
+  java "$@" -jar "$jar" --server.port=0 --management.server.port=0 "${app_args[@]}" >"$log" 2>&1 &
+  local pid=$!
+  until grep -q "Started TeamCollabHubApplication" "$log"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      cat "$log" >&2
+      return 1
+    fi
+    sleep 0.1
+  done
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "$log"
+}
+
+app_args=("$@")
+for mode in default cds; do
+  flags=()
+  [[ $mode == cds ]] && flags=(-XX:SharedArchiveFile=application.jsa)
+  times=()
+  for ((i = 1; i <= runs; i++)); do
+    times+=("$(boot "${flags[@]}")")
+  done
+  printf '%-8s %s  (median %ss)\n' "$mode" "${times[*]}" \
+    "$(printf '%s\n' "${times[@]}" | sort -n | awk '{ t[NR] = $1 } END { print t[int((NR + 1) / 2)] }')"
+done
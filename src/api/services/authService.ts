@@ -15,6 +15,8 @@ export interface RegisterRequest {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
   user: User;
 }
 
@@ -29,8 +31,8 @@ export const authService = {
     return response.data;
   },
 
-  logout: async (): Promise<void> => {
-    await apiClient.post('/auth/logout');
+  logout: async (refreshToken?: string | null): Promise<void> => {
+    await apiClient.post('/auth/logout', refreshToken ? { refreshToken } : undefined);
   },
 
   getCurrentUser: async (): Promise<User> => {
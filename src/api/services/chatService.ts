@@ -29,6 +29,11 @@ export const chatService = {
     return response.data;
   },
 
+  openDirect: async (userId: string): Promise<Chat> => {
+    const response = await apiClient.post<Chat>(`/chats/direct/${userId}`);
+    return response.data;
+  },
+
   // Messages
   getMessages: async (chatId: string): Promise<ChatMessage[]> => {
     const response = await apiClient.get<ChatMessage[]>(`/chats/${chatId}/messages`);
@@ -1,9 +1,30 @@
 import { apiClient } from '../client';
 import { User } from '@/types';
 
+export type UserSummary = Pick<User, 'id' | 'name' | 'email' | 'avatar' | 'role' | 'department'>;
+
 export const userService = {
   getAll: async (): Promise<User[]> => {
-    const response = await apiClient.get<User[]>('/users');
+    const users: User[] = [];
+    let after: string | undefined;
+    do {
+      const response = await apiClient.get<User[]>('/users', { params: { after, limit: 1000 } });
+      users.push(...response.data);
+      after = response.headers['x-next-cursor'];
+    } while (after);
+    return users;
+  },
+
+  search: async (q: string, limit = 10): Promise<UserSummary[]> => {
+    const response = await apiClient.get<UserSummary[]>('/users', { params: { q, limit } });
+    return response.data;
+  },
+
+  getBatch: async (ids: string[]): Promise<User[]> => {
+    if (ids.length === 0) {
+      return [];
+    }
+    const response = await apiClient.get<User[]>('/users/batch', { params: { ids: ids.join(',') } });
     return response.data;
   },
 
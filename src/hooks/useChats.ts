@@ -28,25 +28,10 @@ export function useChats(userId: string) {
 
   const createPersonalChat = async (otherUserId: string) => {
     try {
-      // Проверяем, существует ли уже личный чат
-      const existingChat = chats.find(
-        chat => chat.type === 'personal' && 
-        chat.participants.includes(userId) && 
-        chat.participants.includes(otherUserId)
-      );
-
-      if (existingChat) {
-        return existingChat.id;
-      }
-
-      // Создаем новый чат
-      const newChat = await chatService.create({
-        type: 'personal',
-        participantIds: [userId, otherUserId],
-      });
+      const chat = await chatService.openDirect(otherUserId);
 
-      setChats(prev => [...prev, newChat]);
-      return newChat.id;
+      setChats(prev => (prev.some(c => c.id === chat.id) ? prev : [...prev, chat]));
+      return chat.id;
     } catch (error) {
       console.error('Error creating personal chat:', error);
       toast.error('Ошибка создания чата');
@@ -47,6 +47,7 @@ export const useAuthStore = create<AuthState>((set, get) => ({
         } catch (error) {
           // Токен невалиден
           localStorage.removeItem('token');
+          localStorage.removeItem('refreshToken');
           localStorage.removeItem('user');
           set({ user: null, token: null, isAuthenticated: false, isLoading: false });
         }
@@ -61,10 +62,11 @@ export const useAuthStore = create<AuthState>((set, get) => ({
 
   login: async (email: string, password: string) => {
     try {
-      const { token, user } = await authService.login({ email, password });
+      const { refreshToken, token, user } = await authService.login({ email, password });
       
       // Сохраняем токен и пользователя
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
       localStorage.setItem('user', JSON.stringify(user));
       
       set({ user, token, isAuthenticated: true });
@@ -77,7 +79,7 @@ export const useAuthStore = create<AuthState>((set, get) => ({
 
   register: async (name: string, email: string, password: string, department: string) => {
     try {
-      const { token, user } = await authService.register({ 
+      const { refreshToken, token, user } = await authService.register({ 
         name, 
         email, 
         password, 
@@ -86,6 +88,7 @@ export const useAuthStore = create<AuthState>((set, get) => ({
       
       // Сохраняем токен и пользователя
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
       localStorage.setItem('user', JSON.stringify(user));
       
       set({ user, token, isAuthenticated: true });
@@ -98,11 +101,12 @@ export const useAuthStore = create<AuthState>((set, get) => ({
 
   logout: async () => {
     try {
-      await authService.logout();
+      await authService.logout(localStorage.getItem('refreshToken'));
     } catch (error) {
       console.error('Logout error:', error);
     } finally {
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       localStorage.removeItem('user');
       set({ user: null, token: null, isAuthenticated: false });
     }